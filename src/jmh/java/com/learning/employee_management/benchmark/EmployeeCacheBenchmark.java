@@ -0,0 +1,57 @@
+package com.learning.employee_management.benchmark;
+
+import com.learning.employee_management.cache.EmployeeCache;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits by CPF from one and from eight threads. Scores are total hits per second, so a
+ * cache whose hits do not contend scores close to eight times higher on eight threads, given
+ * the cores. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeCacheBenchmark {
+
+    @Param({"5000"})
+    private int employees;
+
+    private final EmployeeCache cache = new EmployeeCache();
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        for (int i = 0; i < employees; i++) {
+            cache.put(new EmployeeDTO((long) i, "name", "lastName", Cpf.format(cpf(i)), 10000_00, 100_00, 1000_00,
+                    LocalDate.of(2020, 1, 1), null, Role.MANAGER, 0));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EmployeeDTO hitOneThread() {
+        return cache.get(randomCpf());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EmployeeDTO hitEightThreads() {
+        return cache.get(randomCpf());
+    }
+
+    private long randomCpf() {
+        return cpf(ThreadLocalRandom.current().nextInt(employees));
+    }
+
+    private static long cpf(int i) {
+        return 10_000_000_000L + i * 7L;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.learning.employee_management.benchmark;
+
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.index.EmployeeIndex;
+import com.learning.employee_management.index.EmployeeRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups on the primitive {@link EmployeeIndex} with a {@code ConcurrentHashMap<Long, ...>}.
+ * Run with {@code ./gradlew jmh}; the gc profiler should report no allocation for the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeIndexBenchmark {
+
+    @Param({"100000"})
+    private int employees;
+
+    private final EmployeeIndex index = new EmployeeIndex();
+    private final Map<Long, EmployeeRecord> map = new ConcurrentHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        List<EmployeeRecord> records = new ArrayList<>(employees);
+        for (int i = 1; i <= employees; i++) {
+            EmployeeRecord record = new EmployeeRecord(i, 10_000_000_000L + i * 7L, "name", "lastName",
+                    10000_00, 100_00, 1000_00, LocalDate.of(2020, 1, 1), null, Role.MANAGER, 0);
+            records.add(record);
+            map.put(record.getCpf(), record);
+        }
+        index.upsert(records);
+    }
+
+    @Benchmark
+    public EmployeeRecord indexByCpf() {
+        return index.byCpf(randomCpf());
+    }
+
+    @Benchmark
+    public EmployeeRecord indexById() {
+        return index.byId(ThreadLocalRandom.current().nextInt(1, employees + 1));
+    }
+
+    @Benchmark
+    public EmployeeRecord concurrentHashMapByCpf() {
+        return map.get(randomCpf());
+    }
+
+    private long randomCpf() {
+        return 10_000_000_000L + ThreadLocalRandom.current().nextInt(1, employees + 1) * 7L;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.learning.employee_management.benchmark;
+
+import com.learning.employee_management.EmployeeManagementApplication;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.mapper.EmployeeMapper;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the entity + mapper read path, in a read-write transaction as the service used to run
+ * it, with the DTO projection read path in a read-only transaction. The CPF cache is left out so
+ * both paths reach the database. The entity methods are the baseline: run with
+ * {@code ./gradlew jmh} and compare each pair in {@code build/reports/jmh/results.txt}; the gc
+ * profiler reports allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeReadPathBenchmark {
+
+    @Param({"1000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository repository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:readpathbenchmark",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "employee.warmup.enabled=false",
+                        "employee.schedule.enabled=false")
+                .run();
+        repository = context.getBean(EmployeeRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Employee> seed = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            seed.add(new Employee(null, "name" + i, "lastName" + i, cpf(i), 10000, 100, 1000,
+                    LocalDate.of(2020, 1, 1).plusDays(i % 365), null, Role.MANAGER, 0));
+        }
+        repository.saveAll(seed);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> findAllWithEntityAndMapper() {
+        return readWrite.execute(status -> repository.findAll().stream().map(EmployeeMapper.INSTANCE::toDTO).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> findAllWithProjection() {
+        return readOnly.execute(status -> repository.findAllDTOs());
+    }
+
+    @Benchmark
+    public EmployeeDTO findByCPFWithEntityAndMapper() {
+
+        String cpf = randomCpf();
+        return readWrite.execute(status -> EmployeeMapper.INSTANCE.toDTO(repository.findByCPF(cpf).orElse(null)));
+    }
+
+    @Benchmark
+    public EmployeeDTO findByCPFWithProjection() {
+
+        String cpf = randomCpf();
+        return readOnly.execute(status -> repository.findDTOByCPF(cpf).orElse(null));
+    }
+
+    private String randomCpf() {
+        return cpf(ThreadLocalRandom.current().nextInt(employees));
+    }
+
+    private static String cpf(int i) {
+        return String.format("%011d", i);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.learning.employee_management.benchmark;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.validation.EmployeeValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Hibernate Validator (through the same Spring adapter the request binder uses) with the
+ * hand-written {@link EmployeeValidator}, for a valid payload and for one breaking every field rule.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeValidationBenchmark {
+
+    private final EmployeeValidator employeeValidator = new EmployeeValidator();
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private EmployeeDTO valid;
+    private EmployeeDTO invalid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+        valid = new EmployeeDTO(null, "joao", "pedro", "356.421.456-90", 30000_00, 200_00, 1000_00,
+                LocalDate.of(2020, 2, 5), Role.MANAGER);
+        invalid = new EmployeeDTO(null, "jo", "pedro da silva e souza".repeat(3), "356.421.456-9x", 1000_00, 200_00, 1000_00,
+                null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors validPayloadWithBeanValidation() {
+        return validate(beanValidator, valid);
+    }
+
+    @Benchmark
+    public Errors validPayloadWithEmployeeValidator() {
+        return validate(employeeValidator, valid);
+    }
+
+    @Benchmark
+    public Errors invalidPayloadWithBeanValidation() {
+        return validate(beanValidator, invalid);
+    }
+
+    @Benchmark
+    public Errors invalidPayloadWithEmployeeValidator() {
+        return validate(employeeValidator, invalid);
+    }
+
+    private static Errors validate(Validator validator, EmployeeDTO employeeDTO) {
+
+        Errors errors = new BeanPropertyBindingResult(employeeDTO, "employeeDTO");
+        validator.validate(employeeDTO, errors);
+        return errors;
+    }
+
+}
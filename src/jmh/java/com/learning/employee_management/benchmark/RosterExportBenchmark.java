@@ -0,0 +1,74 @@
+package com.learning.employee_management.benchmark;
+
+import com.learning.employee_management.EmployeeManagementApplication;
+import com.learning.employee_management.export.RosterExporter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports a million-employee roster to a discarding stream. Scores are rows per second
+ * ({@code @OperationsPerInvocation} is the row count). Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@OperationsPerInvocation(RosterExportBenchmark.ROWS)
+public class RosterExportBenchmark {
+
+    static final int ROWS = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private RosterExporter exporter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:rosterexportbenchmark",
+                        "employee.warmup.enabled=false",
+                        "employee.schedule.enabled=false")
+                .run();
+        exporter = context.getBean(RosterExporter.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"name" + i % 1000, "lastName" + i, 10_000_000_000L + i, 10000_00 + i % 5000,
+                    100_00, 1000_00, java.sql.Date.valueOf("2020-01-01"), i % 3 == 0 ? "M" : "T"});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO employee (name, last_name, cpf, salary_cents, profit_share_cents, "
+                        + "max_profit_share_cents, admission_date, role) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long exportCsv() throws IOException {
+        return exporter.export(OutputStream.nullOutputStream(), false);
+    }
+
+    @Benchmark
+    public long exportGzippedCsv() throws IOException {
+        return exporter.export(OutputStream.nullOutputStream(), true);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.learning.employee_management.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditEvent {
+
+    private final long timestamp;
+
+    private final String tenant;
+
+    private final String clientId;
+
+    private final String claimedClientId;
+
+    private final String action;
+
+    private final String method;
+
+    private final String resource;
+
+    private final int status;
+
+}
@@ -0,0 +1,106 @@
+package com.learning.employee_management.audit;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.ratelimit.RateLimitInterceptor;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Audits every handled request with the tenant it ran for. The client is the principal or the remote address; the
+ * {@code X-Client-Id} header is kept alongside it only as what the caller claimed. CPFs in the
+ * request path are masked before they reach the audit file. A handler that reads employees named
+ * in its body rather than its path lists them with {@link #auditEmployees}, and the request is
+ * then audited once per employee, with the masked CPF appended to the path.
+ */
+@Component
+public class AuditInterceptor implements HandlerInterceptor {
+
+    public static final String AUDITED_EMPLOYEES_ATTRIBUTE = AuditInterceptor.class.getName() + ".employees";
+
+    private static final int MAX_CLAIMED_CLIENT_ID_LENGTH = 64;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+
+        String action = handler instanceof HandlerMethod ? ((HandlerMethod) handler).getMethod().getName() : "unknown";
+        String resource = maskCpfs(request.getRequestURI());
+        Set<String> employees = (Set<String>) request.getAttribute(AUDITED_EMPLOYEES_ATTRIBUTE);
+        if (employees == null || employees.isEmpty()) {
+            record(request, response, action, resource);
+            return;
+        }
+        for (String maskedCpf : employees) {
+            record(request, response, action, resource + '/' + maskedCpf);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void auditEmployees(HttpServletRequest request, Collection<EmployeeDTO> employees) {
+
+        Set<String> audited = (Set<String>) request.getAttribute(AUDITED_EMPLOYEES_ATTRIBUTE);
+        if (audited == null) {
+            audited = new LinkedHashSet<>();
+            request.setAttribute(AUDITED_EMPLOYEES_ATTRIBUTE, audited);
+        }
+        for (EmployeeDTO employee : employees) {
+            audited.add(Cpf.mask(Cpf.parse(employee.getCPF())));
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, String action, String resource) {
+
+        auditLog.record(new AuditEvent(System.currentTimeMillis(), tenant(request),
+                RateLimitInterceptor.clientId(request),
+                claimedClientId(request.getHeader(RateLimitInterceptor.CLIENT_ID_HEADER)),
+                action, request.getMethod(), resource, response.getStatus()));
+    }
+
+    /**
+     * Read from the request rather than {@link TenantContext}: the filter has already cleared the
+     * thread-local when an async request completes.
+     */
+    private static String tenant(HttpServletRequest request) {
+
+        Object tenant = request.getAttribute(TenantFilter.TENANT_ATTRIBUTE);
+        return tenant != null ? tenant.toString() : TenantContext.DEFAULT_TENANT;
+    }
+
+    static String maskCpfs(String uri) {
+
+        String[] segments = uri.split("/", -1);
+        boolean masked = false;
+        for (int i = 0; i < segments.length; i++) {
+            long cpf = Cpf.parse(segments[i]);
+            if (Cpf.isValid(cpf)) {
+                segments[i] = Cpf.mask(cpf);
+                masked = true;
+            }
+        }
+        return masked ? String.join("/", segments) : uri;
+    }
+
+    private static String claimedClientId(String header) {
+
+        if (header == null) {
+            return null;
+        }
+        String claimed = header.length() > MAX_CLAIMED_CLIENT_ID_LENGTH ? header.substring(0, MAX_CLAIMED_CLIENT_ID_LENGTH) : header;
+        return claimed.replaceAll("\\p{Cntrl}", " ");
+    }
+
+}
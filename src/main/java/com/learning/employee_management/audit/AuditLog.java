@@ -0,0 +1,167 @@
+package com.learning.employee_management.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request threads only enqueue audit events into a ring buffer; a background thread drains
+ * them in batches into a rolling append-only file. When the buffer fills up the configured
+ * {@link BackpressurePolicy} decides whether events are dropped, sampled or block the caller.
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // a producer that claimed a slot and never published it leaves the buffer non-empty for good
+    private static final long SHUTDOWN_STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.audit.capacity:65536}")
+    private int capacity;
+
+    @Value("${employee.audit.policy:DROP}")
+    private BackpressurePolicy policy;
+
+    @Value("${employee.audit.sample-rate:10}")
+    private int sampleRate;
+
+    @Value("${employee.audit.batch-size:512}")
+    private int batchSize;
+
+    @Value("${employee.audit.file:logs/audit.log}")
+    private String file;
+
+    @Value("${employee.audit.max-file-bytes:104857600}")
+    private long maxFileBytes;
+
+    private final AtomicLong offered = new AtomicLong();
+
+    private AuditRingBuffer buffer;
+    private Counter dropped;
+    private Counter sampledOut;
+    private Counter written;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+
+        if (!enabled) {
+            return;
+        }
+        buffer = new AuditRingBuffer(capacity);
+        dropped = meterRegistry.counter("employee.audit.dropped", "reason", "full");
+        sampledOut = meterRegistry.counter("employee.audit.dropped", "reason", "sampled");
+        written = meterRegistry.counter("employee.audit.written");
+        meterRegistry.gauge("employee.audit.queue.depth", buffer, AuditRingBuffer::size);
+
+        RollingAuditFile auditFile = new RollingAuditFile(Paths.get(file), maxFileBytes);
+        running = true;
+        writerThread = new Thread(() -> drain(auditFile), "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void record(AuditEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        switch (policy) {
+            case BLOCK: {
+                while (!buffer.offer(event)) {
+                    if (!running) {
+                        dropped.increment();
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                return;
+            }
+            case SAMPLE: {
+                if (buffer.size() >= buffer.capacity() / 2 && offered.incrementAndGet() % sampleRate != 0) {
+                    sampledOut.increment();
+                    return;
+                }
+                break;
+            }
+            default:
+                break;
+        }
+
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain(RollingAuditFile auditFile) {
+
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long giveUpAt = 0;
+        try {
+            while (running || buffer.size() > 0) {
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    if (!running) {
+                        long now = System.nanoTime();
+                        if (giveUpAt == 0) {
+                            giveUpAt = now + SHUTDOWN_STALL_NANOS;
+                        } else if (giveUpAt - now < 0) {
+                            log.warn("Gave up on {} unpublished audit events at shutdown", buffer.size());
+                            dropped.increment(buffer.size());
+                            return;
+                        }
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                giveUpAt = 0;
+                try {
+                    auditFile.write(batch);
+                    written.increment(batch.size());
+                } catch (IOException e) {
+                    log.error("Could not write {} audit events", batch.size(), e);
+                    dropped.increment(batch.size());
+                }
+                batch.clear();
+            }
+        } finally {
+            try {
+                auditFile.close();
+            } catch (IOException e) {
+                log.error("Could not close the audit file", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.learning.employee_management.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with a CAS on
+ * the tail and then publish the event into it; the consumer treats an empty slot as not yet
+ * published and stops draining there.
+ */
+public class AuditRingBuffer {
+
+    private final AtomicReferenceArray<AuditEvent> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public AuditRingBuffer(int capacity) {
+
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(AuditEvent event) {
+
+        for (; ; ) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) claimed & mask, event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Must only be called from the single consumer thread.
+     */
+    public int drainTo(List<AuditEvent> batch, int maxEvents) {
+
+        long position = head.get();
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) position & mask;
+            AuditEvent event = slots.get(index);
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            batch.add(event);
+            position++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.set(position);
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+}
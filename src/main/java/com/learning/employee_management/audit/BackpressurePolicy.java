@@ -0,0 +1,9 @@
+package com.learning.employee_management.audit;
+
+public enum BackpressurePolicy {
+
+    DROP,
+    BLOCK,
+    SAMPLE
+
+}
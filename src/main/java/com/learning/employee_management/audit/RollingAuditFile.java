@@ -0,0 +1,82 @@
+package com.learning.employee_management.audit;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Append-only audit file that is renamed with a timestamp suffix once it grows past
+ * {@code maxBytes}. Only the audit writer thread touches it.
+ */
+public class RollingAuditFile implements Closeable {
+
+    private static final DateTimeFormatter ROLL_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path path;
+    private final long maxBytes;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private BufferedWriter writer;
+    private long bytesWritten;
+
+    public RollingAuditFile(Path path, long maxBytes) throws IOException {
+
+        this.path = path;
+        this.maxBytes = maxBytes;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        open();
+    }
+
+    public void write(List<AuditEvent> events) throws IOException {
+
+        for (AuditEvent event : events) {
+            line.setLength(0);
+            line.append(Instant.ofEpochMilli(event.getTimestamp())).append('\t')
+                    .append(event.getTenant()).append('\t')
+                    .append(event.getClientId()).append('\t')
+                    .append(event.getClaimedClientId() != null ? event.getClaimedClientId() : "-").append('\t')
+                    .append(event.getAction()).append('\t')
+                    .append(event.getMethod()).append('\t')
+                    .append(event.getResource()).append('\t')
+                    .append(event.getStatus()).append('\n');
+            writer.append(line);
+            bytesWritten += line.length();
+        }
+        writer.flush();
+
+        if (bytesWritten >= maxBytes) {
+            roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void roll() throws IOException {
+
+        writer.close();
+        String fileName = path.getFileName().toString();
+        Files.move(path, path.resolveSibling(fileName + "." + ROLL_SUFFIX.format(Instant.now())));
+        open();
+    }
+
+    private void open() throws IOException {
+
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        bytesWritten = Files.size(path);
+    }
+
+}
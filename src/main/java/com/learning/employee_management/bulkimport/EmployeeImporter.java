@@ -0,0 +1,478 @@
+package com.learning.employee_management.bulkimport;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.ImportResultDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.exception.ImportInProgressException;
+import com.learning.employee_management.exception.ImportNotFoundException;
+import com.learning.employee_management.exception.InvalidImportException;
+import com.learning.employee_management.exception.ProfitShareExceedsMaxException;
+import com.learning.employee_management.exception.SalaryIncompatibleWithRoleException;
+import com.learning.employee_management.money.Money;
+import com.learning.employee_management.services.EmployeeRules;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.validation.EmployeeValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports new hires from a CSV stream as a three stage pipeline: the calling thread parses lines
+ * into chunks, a pool of validator threads checks them with {@link EmployeeValidator}
+ * and {@link EmployeeRules}, and a single writer thread inserts the valid rows in JDBC batches, one
+ * transaction per chunk. Stages are joined by bounded queues, so memory stays flat whatever the
+ * size of the file. Rejected rows, including CPFs that already exist, go to a per-import error file
+ * kept under the tenant's directory, so an import id only resolves for the tenant that ran it.
+ * <p>
+ * Each chunk is committed on its own: if the import fails halfway, the chunks already written stay.
+ * Imports hold at most one connection, and are capped per tenant and per node so a large upload
+ * cannot starve the pool or the CPU for other tenants.
+ * Records must fit on one line; quoted fields may hold commas but not line breaks.
+ */
+@Slf4j
+@Component
+public class EmployeeImporter {
+
+    static final String[] COLUMNS = {"name", "last_name", "cpf", "salary", "profit_share",
+            "max_profit_share", "admission_date", "role"};
+
+    private static final String INSERT = "INSERT INTO employee (name, last_name, cpf, salary_cents, profit_share_cents, "
+            + "max_profit_share_cents, admission_date, role, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final List<ImportRow> END = Collections.unmodifiableList(new ArrayList<>());
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmployeeValidator validator;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Value("${employee.import.validators:4}")
+    private int validators;
+
+    @Value("${employee.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${employee.import.queue-capacity:8}")
+    private int queueCapacity;
+
+    @Value("${employee.import.error-dir:logs/import-errors}")
+    private String errorDir;
+
+    @Value("${employee.import.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${employee.import.max-concurrent-per-tenant:1}")
+    private int maxConcurrentPerTenant;
+
+    private final Map<String, Semaphore> permitsByTenant = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() throws IOException {
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        permits = new Semaphore(maxConcurrent);
+        Files.createDirectories(Paths.get(errorDir));
+    }
+
+    public ImportResultDTO importCsv(InputStream inputStream) throws IOException, InvalidImportException, ImportInProgressException {
+
+        String tenant = TenantContext.get();
+        Semaphore tenantPermits = permitsByTenant.computeIfAbsent(tenant, key -> new Semaphore(maxConcurrentPerTenant));
+        if (!tenantPermits.tryAcquire()) {
+            throw new ImportInProgressException(tenant);
+        }
+        try {
+            if (!permits.tryAcquire()) {
+                throw new ImportInProgressException(tenant);
+            }
+            try {
+                return importCsv(inputStream, tenant);
+            } finally {
+                permits.release();
+            }
+        } finally {
+            tenantPermits.release();
+        }
+    }
+
+    private ImportResultDTO importCsv(InputStream inputStream, String tenant) throws IOException, InvalidImportException {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidImportException("The file is empty");
+        }
+        int[] columns = columns(CsvLineParser.parse(stripBom(header)));
+
+        String importId = UUID.randomUUID().toString();
+        BlockingQueue<List<ImportRow>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<ImportRow>> validated = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong imported = new AtomicLong();
+        long rows = 0;
+
+        Path errorFile = errorFile(importId);
+        Files.createDirectories(errorFile.getParent());
+        try (ImportErrorFile errors = new ImportErrorFile(errorFile)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < validators; i++) {
+                threads.add(new Thread(() -> validate(parsed, validated, columns, errors, failure),
+                        "import-validator-" + i));
+            }
+            threads.add(new Thread(() -> TenantContext.runAs(tenant, () -> write(validated, errors, imported, failure)),
+                    "import-writer-" + tenant));
+            for (Thread thread : threads) {
+                thread.setUncaughtExceptionHandler((t, e) -> failure.compareAndSet(null, e));
+                thread.start();
+            }
+
+            try {
+                List<ImportRow> chunk = new ArrayList<>(chunkSize);
+                long line = 1;
+                String text;
+                while (failure.get() == null && (text = reader.readLine()) != null) {
+                    line++;
+                    if (text.isEmpty()) {
+                        continue;
+                    }
+                    chunk.add(new ImportRow(line, CsvLineParser.parse(text)));
+                    rows++;
+                    if (chunk.size() == chunkSize) {
+                        put(parsed, chunk, failure);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    put(parsed, chunk, failure);
+                }
+                for (int i = 0; i < validators; i++) {
+                    put(parsed, END, failure);
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } catch (CancellationException e) {
+                // a validator or the writer failed, its error is rethrown below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            }
+
+            for (Thread thread : threads) {
+                join(thread);
+            }
+            if (imported.get() > 0) {
+                publisher.publishEvent(EmployeeChangedEvent.bulk());
+            }
+            rethrow(failure.get());
+
+            log.info("Import {}: {} rows, {} imported, {} rejected", importId, rows, imported.get(), errors.getRejected());
+            return new ImportResultDTO(importId, rows, imported.get(), errors.getRejected());
+        }
+    }
+
+    public Path findErrors(String importId) throws ImportNotFoundException {
+
+        try {
+            Path file = errorFile(UUID.fromString(importId).toString());
+            if (Files.exists(file)) {
+                return file;
+            }
+        } catch (IllegalArgumentException e) {
+            // not an import id, answered as not found below
+        }
+        throw new ImportNotFoundException(importId);
+    }
+
+    private void validate(BlockingQueue<List<ImportRow>> parsed, BlockingQueue<List<ImportRow>> validated,
+                          int[] columns, ImportErrorFile errors, AtomicReference<Throwable> failure) {
+
+        try {
+            List<ImportRow> chunk;
+            while ((chunk = take(parsed, failure)) != END) {
+                List<ImportRow> valid = new ArrayList<>(chunk.size());
+                for (ImportRow row : chunk) {
+                    verify(row, columns);
+                    if (row.isValid()) {
+                        valid.add(row);
+                    } else {
+                        errors.reject(row);
+                    }
+                }
+                if (!valid.isEmpty()) {
+                    put(validated, valid, failure);
+                }
+            }
+            put(validated, END, failure);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CancellationException e) {
+            // another stage failed first
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void write(BlockingQueue<List<ImportRow>> validated, ImportErrorFile errors,
+                       AtomicLong imported, AtomicReference<Throwable> failure) {
+
+        try {
+            int finished = 0;
+            while (finished < validators) {
+                List<ImportRow> chunk = take(validated, failure);
+                if (chunk == END) {
+                    finished++;
+                    continue;
+                }
+                List<ImportRow> duplicates = new ArrayList<>();
+                try {
+                    imported.addAndGet(insert(chunk, duplicates));
+                } catch (DuplicateKeyException e) {
+                    // a CPF was created concurrently between the lookup and the insert
+                    duplicates.clear();
+                    imported.addAndGet(insert(chunk, duplicates));
+                }
+                for (ImportRow row : duplicates) {
+                    errors.reject(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CancellationException e) {
+            // another stage failed first
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private int insert(List<ImportRow> chunk, List<ImportRow> duplicates) {
+
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<Long> existing = existingCpfs(chunk);
+            List<Object[]> batch = new ArrayList<>(chunk.size());
+            for (ImportRow row : chunk) {
+                EmployeeDTO employee = row.getEmployee();
+                long cpf = Cpf.parse(employee.getCPF());
+                if (!existing.add(cpf)) {
+                    row.reject(String.format("Employee with CPF %s already exists", employee.getCPF()));
+                    duplicates.add(row);
+                    continue;
+                }
+                batch.add(new Object[]{employee.getName(), employee.getLastName(), cpf, employee.getSalary(),
+                        employee.getProfitShare(), employee.getMaxProfitShare(),
+                        Date.valueOf(employee.getAdmissionDate()), employee.getRole().getCode()});
+            }
+            jdbcTemplate.batchUpdate(INSERT, batch);
+            return batch.size();
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    private Set<Long> existingCpfs(List<ImportRow> chunk) {
+
+        StringJoiner placeholders = new StringJoiner(", ", "SELECT cpf FROM employee WHERE cpf IN (", ")");
+        Object[] cpfs = new Object[chunk.size()];
+        for (int i = 0; i < cpfs.length; i++) {
+            placeholders.add("?");
+            cpfs[i] = Cpf.parse(chunk.get(i).getEmployee().getCPF());
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(placeholders.toString(), Long.class, cpfs));
+    }
+
+    void verify(ImportRow row, int[] columns) {
+
+        String[] fields = row.getFields();
+        if (fields.length < columns.length) {
+            row.reject(String.format("Expected at least %d columns but found %d", columns.length, fields.length));
+            return;
+        }
+        try {
+            EmployeeDTO employee = EmployeeDTO.builder()
+                    .name(field(fields, columns, 0))
+                    .lastName(field(fields, columns, 1))
+                    .CPF(field(fields, columns, 2))
+                    .salary(money(field(fields, columns, 3)))
+                    .profitShare(money(field(fields, columns, 4)))
+                    .maxProfitShare(money(field(fields, columns, 5)))
+                    .admissionDate(date(field(fields, columns, 6)))
+                    .role(Role.valueOf(field(fields, columns, 7).toUpperCase(Locale.ROOT)))
+                    .build();
+
+            Errors errors = new BeanPropertyBindingResult(employee, "employeeDTO");
+            validator.validate(employee, errors);
+            if (errors.hasErrors()) {
+                StringJoiner error = new StringJoiner("; ");
+                for (FieldError fieldError : errors.getFieldErrors()) {
+                    error.add(fieldError.getField() + " " + fieldError.getDefaultMessage());
+                }
+                row.reject(error.toString());
+                return;
+            }
+            long cpf = Cpf.parse(employee.getCPF());
+            if (!Cpf.isValid(cpf)) {
+                row.reject(String.format("CPF %s is not valid", employee.getCPF()));
+                return;
+            }
+            employee.setCPF(Cpf.format(cpf));
+            EmployeeRules.verifyRole(employee.getSalary(), employee.getRole());
+            EmployeeRules.verifyProfitShare(employee.getProfitShare(), employee.getMaxProfitShare());
+            row.setEmployee(employee);
+        } catch (NumberFormatException | ArithmeticException e) {
+            row.reject("Amounts must be numbers with at most two decimal places");
+        } catch (DateTimeParseException e) {
+            row.reject("admission_date must be yyyy-MM-dd or dd/MM/yyyy");
+        } catch (IllegalArgumentException e) {
+            row.reject("role must be one of OWNER, DIRECTOR, MANAGER, SPECIALIST, TECHNICIAN");
+        } catch (SalaryIncompatibleWithRoleException | ProfitShareExceedsMaxException e) {
+            row.reject(e.getMessage());
+        }
+    }
+
+    static int[] columns(String[] header) throws InvalidImportException {
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            positions.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Integer position = positions.get(COLUMNS[i]);
+            if (position == null) {
+                throw new InvalidImportException(String.format("Missing column %s, expected %s",
+                        COLUMNS[i], String.join(",", COLUMNS)));
+            }
+            columns[i] = position;
+        }
+        return columns;
+    }
+
+    private static String field(String[] fields, int[] columns, int column) {
+        return columns[column] < fields.length ? fields[columns[column]].trim() : "";
+    }
+
+    private static long money(String value) {
+        return Money.toCents(new BigDecimal(value));
+    }
+
+    private static LocalDate date(String value) {
+        return value.indexOf('/') >= 0 ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+    }
+
+    private static String stripBom(String header) {
+        return !header.isEmpty() && header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+    }
+
+    private Path errorFile(String importId) {
+        return Paths.get(errorDir, TenantContext.get(), importId + ".csv");
+    }
+
+    private static void put(BlockingQueue<List<ImportRow>> queue, List<ImportRow> chunk,
+                            AtomicReference<Throwable> failure) throws InterruptedException {
+
+        while (!queue.offer(chunk, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                throw new CancellationException("Import aborted");
+            }
+        }
+    }
+
+    private static List<ImportRow> take(BlockingQueue<List<ImportRow>> queue,
+                                        AtomicReference<Throwable> failure) throws InterruptedException {
+
+        List<ImportRow> chunk;
+        while ((chunk = queue.poll(OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) == null) {
+            if (failure.get() != null) {
+                throw new CancellationException("Import aborted");
+            }
+        }
+        return chunk;
+    }
+
+    private static void join(Thread thread) throws IOException {
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the import to finish", e);
+        }
+    }
+
+    private static void rethrow(Throwable failure) throws IOException {
+
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) failure).getCause();
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof InterruptedException) {
+            throw new IOException("Import interrupted", failure);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new IllegalStateException("Import failed", failure);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.learning.employee_management.bulkimport;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Rejected rows of one import: the line number, the reason and the original fields.
+ */
+public class ImportErrorFile implements Closeable {
+
+    private final BufferedWriter writer;
+    private long rejected;
+
+    public ImportErrorFile(Path path) throws IOException {
+
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write("line,error,row");
+        writer.newLine();
+    }
+
+    public synchronized void reject(ImportRow row) throws IOException {
+
+        writer.write(Long.toString(row.getLine()));
+        writer.write(',');
+        writer.write(quote(row.getError()));
+        writer.write(',');
+        writer.write(quote(String.join(",", row.getFields())));
+        writer.newLine();
+        rejected++;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
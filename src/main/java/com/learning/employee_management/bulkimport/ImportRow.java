@@ -0,0 +1,29 @@
+package com.learning.employee_management.bulkimport;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImportRow {
+
+    private final long line;
+    private final String[] fields;
+    private EmployeeDTO employee;
+    private String error;
+
+    public ImportRow(long line, String[] fields) {
+        this.line = line;
+        this.fields = fields;
+    }
+
+    public void reject(String error) {
+        this.error = error;
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.UUID;
+
+/**
+ * Applies committed employee changes to the local {@link EmployeeCache} with their row version
+ * and, when an {@link InvalidationTransport} is configured, broadcasts them to the other nodes.
+ * Changes apply to the tenant they were made for, on this node and on the receivers.
+ */
+@Component
+public class CacheInvalidationBroadcaster {
+
+    private final UUID nodeId = UUID.randomUUID();
+
+    @Autowired
+    private EmployeeCache cache;
+
+    @Autowired(required = false)
+    private InvalidationTransport transport;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter sent;
+    private Counter received;
+
+    @PostConstruct
+    public void subscribe() {
+
+        sent = meterRegistry.counter("employee.cache.invalidations", "direction", "sent");
+        received = meterRegistry.counter("employee.cache.invalidations", "direction", "received");
+        if (transport != null) {
+            transport.subscribe(this::onMessage);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+
+        if (event.isBulk()) {
+            cache.clear();
+            publish(new InvalidationMessage(nodeId, true, 0, 0, TenantContext.get()));
+            return;
+        }
+        for (EmployeeDTO employeeDTO : event.getChanged()) {
+            invalidate(Cpf.parse(employeeDTO.getCPF()), employeeDTO.getVersion());
+        }
+        for (EmployeeDTO employeeDTO : event.getDeleted()) {
+            invalidate(Cpf.parse(employeeDTO.getCPF()), EmployeeCache.DELETED);
+        }
+    }
+
+    private void invalidate(long cpf, long version) {
+
+        cache.invalidate(cpf, version);
+        publish(new InvalidationMessage(nodeId, false, cpf, version, TenantContext.get()));
+    }
+
+    private void publish(InvalidationMessage message) {
+
+        if (transport != null) {
+            transport.publish(message);
+            sent.increment();
+        }
+    }
+
+    private void onMessage(InvalidationMessage message) {
+
+        if (nodeId.equals(message.getSender())) {
+            return;
+        }
+        received.increment();
+        TenantContext.runAs(message.getTenant(), () -> {
+            if (message.isClearAll()) {
+                cache.clear();
+            } else {
+                cache.invalidate(message.getCpf(), message.getVersion());
+            }
+        });
+    }
+
+}
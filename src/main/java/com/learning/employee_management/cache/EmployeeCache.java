@@ -0,0 +1,233 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employees by CPF key. Entries carry the row version: {@link #invalidate(long, long)} records
+ * the committed version of a row, evicts older entries and, until the record expires, rejects
+ * fills of older versions, so a read that raced with a write on this or another node cannot put
+ * a stale employee back.
+ * <p>
+ * An entry can also hold the employee already serialized as JSON, so hot lookups can write the
+ * bytes straight to the response. The bytes live and die with the entry and are only attached
+ * to the version they were serialized from.
+ * <p>
+ * Each tenant gets its own segment, picked from {@link TenantContext}, sized and invalidated on
+ * its own. A segment is split into stripes by CPF, each an access-ordered map behind its own lock,
+ * so concurrent hits on different CPFs rarely meet on a monitor. A full stripe evicts its least
+ * recently used employee to admit a new one, which makes the segment as a whole approximately LRU.
+ * <p>
+ * Cached employees are copied on the way in and on the way out, so callers are free to modify
+ * what they get. The JSON bytes are shared and must not be modified.
+ */
+@Component
+public class EmployeeCache {
+
+    public static final long DELETED = Long.MAX_VALUE;
+
+    private static final int MAX_STRIPES = 64;
+    // below this a stripe evicts too close to the hot set to be worth the split
+    private static final int MIN_STRIPE_SIZE = 64;
+
+    @Value("${employee.cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    @Value("${employee.cache.invalidation.ttl-seconds:60}")
+    private long invalidationTtlSeconds = 60;
+
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    public EmployeeDTO get(long cpf) {
+
+        Entry entry = segment().stripe(cpf).get(cpf);
+        return entry == null ? null : copy(entry.employee);
+    }
+
+    public byte[] getJson(long cpf) {
+
+        Entry entry = segment().stripe(cpf).get(cpf);
+        return entry == null ? null : entry.json;
+    }
+
+    public void put(EmployeeDTO employeeDTO) {
+
+        long cpf = Cpf.parse(employeeDTO.getCPF());
+        Stripe stripe = segment().stripe(cpf);
+        // checked under the lock invalidate evicts with, so an invalidation either is seen here
+        // or evicts this fill right after
+        synchronized (stripe) {
+            if (isStale(cpf, employeeDTO.getVersion())) {
+                return;
+            }
+            stripe.byCPF.merge(cpf, new Entry(copy(employeeDTO), null),
+                    (cached, filled) -> cached.version() >= filled.version() ? cached : filled);
+        }
+    }
+
+    public void putJson(EmployeeDTO employeeDTO, byte[] json) {
+
+        long cpf = Cpf.parse(employeeDTO.getCPF());
+        Stripe stripe = segment().stripe(cpf);
+        synchronized (stripe) {
+            stripe.byCPF.computeIfPresent(cpf,
+                    (key, cached) -> cached.version() == employeeDTO.getVersion() ? new Entry(cached.employee, json) : cached);
+        }
+    }
+
+    public void evict(long cpf) {
+
+        Stripe stripe = segment().stripe(cpf);
+        synchronized (stripe) {
+            stripe.byCPF.remove(cpf);
+        }
+    }
+
+    public void invalidate(long cpf, long version) {
+
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(invalidationTtlSeconds);
+        invalidations().merge(cpf, new Invalidation(version, expiresAt),
+                (current, next) -> current.version > next.version ? current : next);
+        Stripe stripe = segment().stripe(cpf);
+        synchronized (stripe) {
+            stripe.byCPF.computeIfPresent(cpf, (key, cached) -> cached.version() < version ? null : cached);
+        }
+        if (invalidations().size() > maxSize) {
+            purgeExpiredInvalidations();
+        }
+    }
+
+    public void clear() {
+
+        for (Stripe stripe : segment().stripes) {
+            synchronized (stripe) {
+                stripe.byCPF.clear();
+            }
+        }
+    }
+
+    public int size() {
+
+        int size = 0;
+        for (Stripe stripe : segment().stripes) {
+            synchronized (stripe) {
+                size += stripe.byCPF.size();
+            }
+        }
+        return size;
+    }
+
+    private static EmployeeDTO copy(EmployeeDTO employeeDTO) {
+
+        return new EmployeeDTO(employeeDTO.getId(), employeeDTO.getName(), employeeDTO.getLastName(), employeeDTO.getCPF(),
+                employeeDTO.getSalary(), employeeDTO.getProfitShare(), employeeDTO.getMaxProfitShare(),
+                employeeDTO.getAdmissionDate(), employeeDTO.getDismissalDate(), employeeDTO.getRole(), employeeDTO.getVersion());
+    }
+
+    private boolean isStale(long cpf, long version) {
+
+        Invalidation invalidation = invalidations().get(cpf);
+        if (invalidation == null) {
+            return false;
+        }
+        if (invalidation.expiresAt - System.nanoTime() < 0) {
+            invalidations().remove(cpf, invalidation);
+            return false;
+        }
+        return version < invalidation.version;
+    }
+
+    private void purgeExpiredInvalidations() {
+
+        long now = System.nanoTime();
+        invalidations().values().removeIf(invalidation -> invalidation.expiresAt - now < 0);
+    }
+
+    private Map<Long, Invalidation> invalidations() {
+        return segment().invalidations;
+    }
+
+    private Segment segment() {
+
+        String tenant = TenantContext.get();
+        Segment segment = segments.get(tenant);
+        return segment != null ? segment : segments.computeIfAbsent(tenant, key -> new Segment(maxSize));
+    }
+
+    private static final class Segment {
+
+        private final Stripe[] stripes;
+        private final Map<Long, Invalidation> invalidations = new ConcurrentHashMap<>();
+
+        private Segment(int maxSize) {
+
+            int count = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(maxSize / MIN_STRIPE_SIZE)));
+            stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe(maxSize / count);
+            }
+        }
+
+        private Stripe stripe(long cpf) {
+            // CPFs are close to sequential, so they are mixed before they pick a stripe
+            return stripes[(int) ((cpf * 0x9E3779B97F4A7C15L) >>> 40) & (stripes.length - 1)];
+        }
+
+    }
+
+    private static final class Stripe {
+
+        private final Map<Long, Entry> byCPF;
+
+        private Stripe(int maxSize) {
+            this.byCPF = new LinkedHashMap<Long, EmployeeCache.Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, EmployeeCache.Entry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        private synchronized Entry get(long cpf) {
+            return byCPF.get(cpf);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final EmployeeDTO employee;
+        private final byte[] json;
+
+        private Entry(EmployeeDTO employee, byte[] json) {
+            this.employee = employee;
+            this.json = json;
+        }
+
+        private long version() {
+            return employee.getVersion();
+        }
+
+    }
+
+    private static final class Invalidation {
+
+        private final long version;
+        private final long expiresAt;
+
+        private Invalidation(long version, long expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.learning.employee_management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.mapper.EmployeeMapper;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Preloads active employees into the {@link EmployeeCache} and runs the mapper and Jackson
+ * paths over them before the application reports itself ready. Application runners complete
+ * before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so the readiness
+ * probe stays down until warmup is done.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "employee.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeCacheWarmup implements ApplicationRunner {
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private EmployeeCache cache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Value("${employee.warmup.size:1000}")
+    private int size;
+
+    @Value("${employee.warmup.iterations:10000}")
+    private int iterations;
+
+    @Value("${employee.cache.serialized-json.enabled:false}")
+    private boolean serializedJson;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+
+        for (String tenant : tenantRegistry.getTenants()) {
+            TenantContext.callAs(tenant, this::warmUp);
+        }
+    }
+
+    private int warmUp() throws JsonProcessingException {
+
+        long start = System.nanoTime();
+
+        List<EmployeeDTO> activeEmployees = repository.findActiveDTOs(PageRequest.of(0, size));
+        activeEmployees.forEach(cache::put);
+
+        if (!activeEmployees.isEmpty()) {
+            for (int i = 0; i < iterations; i++) {
+                EmployeeDTO employeeDTO = activeEmployees.get(i % activeEmployees.size());
+                EmployeeMapper.INSTANCE.toDTO(EmployeeMapper.INSTANCE.toModel(employeeDTO));
+                objectMapper.writeValueAsBytes(employeeDTO);
+            }
+        }
+        if (serializedJson) {
+            for (EmployeeDTO employeeDTO : activeEmployees) {
+                cache.putJson(employeeDTO, objectMapper.writeValueAsBytes(employeeDTO));
+            }
+        }
+
+        log.info("Warmed up {} active employees of tenant {} in {} ms", activeEmployees.size(), TenantContext.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        return activeEmployees.size();
+    }
+
+}
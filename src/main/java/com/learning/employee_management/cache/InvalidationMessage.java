@@ -0,0 +1,65 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.tenant.TenantRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A row of {@code cpf} of {@code tenant} was committed at {@code version} (or deleted, see
+ * {@link EmployeeCache#DELETED}); {@code clearAll} asks the receivers to drop the tenant's whole
+ * cache after a bulk update.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class InvalidationMessage {
+
+    public static final int MAX_SIZE = 8 + 8 + 1 + 8 + 8 + 1 + TenantRegistry.MAX_TENANT_LENGTH;
+    private static final int FIXED_SIZE = 8 + 8 + 1 + 8 + 8 + 1;
+
+    private final UUID sender;
+    private final boolean clearAll;
+    private final long cpf;
+    private final long version;
+    private final String tenant;
+
+    public byte[] toBytes() {
+
+        byte[] tenantBytes = tenant.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocate(FIXED_SIZE + tenantBytes.length)
+                .putLong(sender.getMostSignificantBits())
+                .putLong(sender.getLeastSignificantBits())
+                .put((byte) (clearAll ? 1 : 0))
+                .putLong(cpf)
+                .putLong(version)
+                .put((byte) tenantBytes.length)
+                .put(tenantBytes)
+                .array();
+    }
+
+    public static InvalidationMessage fromBytes(byte[] bytes, int offset, int length) {
+
+        if (length < FIXED_SIZE || length > MAX_SIZE) {
+            throw new IllegalArgumentException(String.format("Invalidation message has %d bytes, expected %d to %d",
+                    length, FIXED_SIZE, MAX_SIZE));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+        UUID sender = new UUID(buffer.getLong(), buffer.getLong());
+        boolean clearAll = buffer.get() == 1;
+        long cpf = buffer.getLong();
+        long version = buffer.getLong();
+        byte[] tenantBytes = new byte[buffer.get()];
+        if (tenantBytes.length != length - FIXED_SIZE) {
+            throw new IllegalArgumentException(String.format("Invalidation message declares a %d byte tenant in %d bytes",
+                    tenantBytes.length, length));
+        }
+        buffer.get(tenantBytes);
+        return new InvalidationMessage(sender, clearAll, cpf, version, new String(tenantBytes, StandardCharsets.US_ASCII));
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.learning.employee_management.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between the nodes of a deployment. Delivery is best effort;
+ * the version stamps in {@link EmployeeCache} keep late or reordered messages harmless.
+ */
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+
+}
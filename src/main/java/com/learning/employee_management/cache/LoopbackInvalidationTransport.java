@@ -0,0 +1,40 @@
+package com.learning.employee_management.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations to every application context in the same JVM subscribed to the same
+ * channel. Meant for tests that run several nodes in one process.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, List<Consumer<InvalidationMessage>>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final List<Consumer<InvalidationMessage>> subscribers;
+    private final List<Consumer<InvalidationMessage>> ownListeners = new CopyOnWriteArrayList<>();
+
+    public LoopbackInvalidationTransport(String channel) {
+        this.subscribers = CHANNELS.computeIfAbsent(channel, name -> new CopyOnWriteArrayList<>());
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+
+        ownListeners.add(listener);
+        subscribers.add(listener);
+    }
+
+    public void close() {
+        subscribers.removeAll(ownListeners);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.learning.employee_management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Sends invalidations as single UDP datagrams to a multicast group. Every node on the group,
+ * including several instances on one machine, receives them on a daemon thread.
+ */
+@Slf4j
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    private final InetAddress group;
+    private final int port;
+    private final MulticastSocket socket;
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread receiver;
+
+    public MulticastInvalidationTransport(String group, int port, String networkInterface, int timeToLive) throws IOException {
+
+        this.group = InetAddress.getByName(group);
+        this.port = port;
+        this.socket = new MulticastSocket(null);
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(port));
+        socket.setTimeToLive(timeToLive);
+        NetworkInterface sendInterface = networkInterface == null || networkInterface.isEmpty()
+                ? null : NetworkInterface.getByName(networkInterface);
+        if (sendInterface != null) {
+            socket.setNetworkInterface(sendInterface);
+        }
+        socket.joinGroup(new InetSocketAddress(this.group, port), sendInterface);
+
+        receiver = new Thread(this::receive, "cache-invalidation");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+
+        byte[] bytes = message.toBytes();
+        try {
+            socket.send(new DatagramPacket(bytes, bytes.length, group, port));
+        } catch (IOException e) {
+            log.warn("Could not send cache invalidation {}", message, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    public void close() {
+        socket.close();
+    }
+
+    private void receive() {
+
+        byte[] buffer = new byte[InvalidationMessage.MAX_SIZE];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(buffer.length);
+                socket.receive(packet);
+                InvalidationMessage message = InvalidationMessage.fromBytes(packet.getData(), packet.getOffset(), packet.getLength());
+                listeners.forEach(listener -> listener.accept(message));
+            } catch (SocketException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Cache invalidation socket failed", e);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Dropped a cache invalidation packet", e);
+            }
+        }
+    }
+
+}
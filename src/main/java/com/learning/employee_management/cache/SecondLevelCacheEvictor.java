@@ -0,0 +1,29 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Bulk imports and profit share distributions write through JDBC, behind Hibernate's back, so the
+ * second-level cache of {@link Employee} is dropped after them.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+
+        if (event.isBulk()) {
+            entityManagerFactory.getCache().evict(Employee.class);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.learning.employee_management.config;
+
+import com.learning.employee_management.cache.LoopbackInvalidationTransport;
+import com.learning.employee_management.cache.MulticastInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    private static final String TRANSPORT = "employee.cache.invalidation.transport";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = TRANSPORT, havingValue = "multicast")
+    public MulticastInvalidationTransport multicastInvalidationTransport(
+            @Value("${employee.cache.invalidation.group:239.255.27.1}") String group,
+            @Value("${employee.cache.invalidation.port:45588}") int port,
+            @Value("${employee.cache.invalidation.interface:}") String networkInterface,
+            @Value("${employee.cache.invalidation.time-to-live:1}") int timeToLive) throws IOException {
+
+        return new MulticastInvalidationTransport(group, port, networkInterface, timeToLive);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = TRANSPORT, havingValue = "loopback")
+    public LoopbackInvalidationTransport loopbackInvalidationTransport(
+            @Value("${employee.cache.invalidation.channel:employee-cache}") String channel) {
+
+        return new LoopbackInvalidationTransport(channel);
+    }
+
+}
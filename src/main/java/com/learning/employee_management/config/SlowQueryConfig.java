@@ -0,0 +1,33 @@
+package com.learning.employee_management.config;
+
+import com.learning.employee_management.slowquery.SlowQueryDataSource;
+import com.learning.employee_management.slowquery.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Times the statements of every data source bean; composes with the tenant routing wrapper, which
+ * sets the schema on the connection before any statement is timed.
+ */
+@Configuration
+@ConditionalOnProperty(value = "employee.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource && !(bean instanceof SlowQueryDataSource)
+                        ? new SlowQueryDataSource((DataSource) bean, slowQueryLog.getObject()) : bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.learning.employee_management.config;
+
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantDataSource;
+import com.learning.employee_management.tenant.TenantFilter;
+import com.learning.employee_management.tenant.TenantRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+
+/**
+ * Schema-per-tenant storage: the data source follows {@link TenantContext}, every tenant schema is
+ * migrated with the same Flyway scripts as the default one, and request metrics carry a tenant tag.
+ * The second-level cache is turned off when tenants are configured.
+ */
+@Configuration
+public class TenantConfig {
+
+    @Bean
+    public static BeanPostProcessor tenantDataSourcePostProcessor(ObjectProvider<TenantRegistry> registry) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource && !(bean instanceof TenantDataSource)
+                        ? new TenantDataSource((DataSource) bean, registry.getObject()) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FlywayMigrationStrategy tenantMigrationStrategy(TenantRegistry registry) {
+
+        return flyway -> {
+            flyway.migrate();
+            for (String tenant : registry.getTenants()) {
+                if (TenantContext.DEFAULT_TENANT.equals(tenant)) {
+                    continue;
+                }
+                // migrated from the default tenant's connections: the tenant schema does not exist until
+                // Flyway creates it, and Flyway switches to it on its own
+                String schema = registry.schema(tenant);
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .schemas(schema)
+                        .defaultSchema(schema)
+                        .load()
+                        .migrate();
+            }
+        };
+    }
+
+    /**
+     * Hibernate does not know which schema an entity was read from, so cached entities of one tenant
+     * would be served to another with the same ids.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer tenantSecondLevelCacheCustomizer(TenantRegistry registry) {
+
+        return properties -> {
+            if (registry.isMultiTenant()) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcTagsContributor tenantTagsContributor() {
+
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler, Throwable exception) {
+                return tenantTag(request);
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return tenantTag(request);
+            }
+        };
+    }
+
+    private static Tags tenantTag(HttpServletRequest request) {
+
+        Object tenant = request.getAttribute(TenantFilter.TENANT_ATTRIBUTE);
+        return Tags.of("tenant", tenant != null ? tenant.toString() : TenantContext.DEFAULT_TENANT);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.learning.employee_management.config;
+
+import com.learning.employee_management.audit.AuditInterceptor;
+import com.learning.employee_management.ratelimit.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String API_PATH = "/api/**";
+
+    @Autowired
+    private AuditInterceptor auditInterceptor;
+
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(auditInterceptor).addPathPatterns(API_PATH);
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns(API_PATH);
+    }
+
+}
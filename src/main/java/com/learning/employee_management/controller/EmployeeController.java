@@ -1,38 +1,170 @@
 package com.learning.employee_management.controller;
 
+import com.learning.employee_management.audit.AuditInterceptor;
+import com.learning.employee_management.bulkimport.EmployeeImporter;
+import com.learning.employee_management.employeeDTO.AnniversaryDTO;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupDTO;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupResultDTO;
 import com.learning.employee_management.employeeDTO.EmployeeChangeableValues;
 import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+import com.learning.employee_management.employeeDTO.ImportResultDTO;
+import com.learning.employee_management.employeeDTO.PayrollTotalDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionResultDTO;
+import com.learning.employee_management.employeeDTO.ScheduledEventDTO;
+import com.learning.employee_management.employeeDTO.TenureDistributionDTO;
+import com.learning.employee_management.enums.Role;
 import com.learning.employee_management.exception.*;
+import com.learning.employee_management.export.RosterExporter;
 import com.learning.employee_management.services.EmployeeService;
+import com.learning.employee_management.services.ProfitShareDistributionService;
+import com.learning.employee_management.services.ScheduledEventService;
+import com.learning.employee_management.services.SeniorityService;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.validation.EmployeeValidator;
 import io.swagger.annotations.Api;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping(value = "/api/v1/employee")
 public class EmployeeController {
 
+    private static final int MAX_ANNIVERSARY_DAYS = 366;
+
     @Autowired
     private EmployeeService service;
 
+    @Autowired
+    private ProfitShareDistributionService distributionService;
+
+    @Autowired
+    private ScheduledEventService scheduledEventService;
+
+    @Autowired
+    private SeniorityService seniorityService;
+
+    @Autowired
+    private RosterExporter rosterExporter;
+
+    @Autowired
+    private EmployeeImporter employeeImporter;
+
+    @Autowired
+    private EmployeeValidator employeeValidator;
+
+    @Value("${employee.cache.serialized-json.enabled:false}")
+    private boolean serializedJson;
+
+    @InitBinder("employeeDTO")
+    public void initEmployeeBinder(WebDataBinder binder) {
+        binder.replaceValidators(employeeValidator);
+    }
+
     @GetMapping
-    public List<EmployeeDTO> findAll() {
-        return service.findAll();
+    public List<EmployeeDTO> findAll(@Valid EmployeeFilter filter) throws InvalidSortException {
+        return filter.hasCriteria() ? service.search(filter) : service.findAll();
     }
 
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public EmployeeDTO createEmployee(@RequestBody   @Valid EmployeeDTO employeeDTO) throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException {
+    public EmployeeDTO createEmployee(@RequestBody   @Valid EmployeeDTO employeeDTO) throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException, InvalidCpfException {
         return service.createEmployee(employeeDTO);
     }
 
+    @GetMapping(value = "/payroll/total")
+    public PayrollTotalDTO activePayrollTotal() {
+        return service.activePayrollTotal();
+    }
+
+    @GetMapping(value = "/role/{role}/active")
+    public List<EmployeeDTO> findActiveByRole(@PathVariable Role role) {
+        return service.findActiveByRole(role);
+    }
+
+    @GetMapping(value = "/admitted")
+    public List<EmployeeDTO> findAdmittedBetween(@RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+                                                 @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to) {
+        return service.findAdmittedBetween(from, to);
+    }
+
+    @GetMapping(value = "/anniversaries")
+    public List<AnniversaryDTO> findAnniversaries(@RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+                                                  @RequestParam(defaultValue = "7") int days) {
+        return seniorityService.anniversaries(from == null ? LocalDate.now() : from, Math.max(1, Math.min(days, MAX_ANNIVERSARY_DAYS)));
+    }
+
+    @GetMapping(value = "/tenure/distribution")
+    public TenureDistributionDTO tenureDistribution(@RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate asOf) {
+        return seniorityService.distribution(asOf == null ? LocalDate.now() : asOf);
+    }
+
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportRoster(@RequestParam(defaultValue = "false") boolean gzip) {
+
+        String tenant = TenantContext.get();
+        String fileName = gzip ? "roster.csv.gz" : "roster.csv";
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.APPLICATION_OCTET_STREAM : new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(outputStream -> {
+                    // streamed from an async thread, which does not inherit the request's tenant
+                    TenantContext.set(tenant);
+                    try {
+                        rosterExporter.export(outputStream, gzip);
+                    } finally {
+                        TenantContext.clear();
+                    }
+                });
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportResultDTO importEmployees(InputStream body) throws IOException, InvalidImportException, ImportInProgressException {
+        return employeeImporter.importCsv(body);
+    }
+
+    @GetMapping(value = "/import/{importId}/errors")
+    public ResponseEntity<FileSystemResource> importErrors(@PathVariable String importId) throws ImportNotFoundException {
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + importId + "-errors.csv\"")
+                .body(new FileSystemResource(employeeImporter.findErrors(importId)));
+    }
+
     @GetMapping(value = "/{cpf}")
-    public EmployeeDTO findByCPF(@PathVariable String cpf) throws EmployeeNotFoundException {
-        return service.findByCPF(cpf);
+    public ResponseEntity<?> findByCPF(@PathVariable String cpf) throws EmployeeNotFoundException {
+
+        if (serializedJson) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.findJsonByCPF(cpf));
+        }
+        return ResponseEntity.ok(service.findByCPF(cpf));
+    }
+
+    @PostMapping("/batchLookup")
+    public EmployeeBatchLookupResultDTO findBatch(@RequestBody @Valid EmployeeBatchLookupDTO lookup, HttpServletRequest request) {
+
+        EmployeeBatchLookupResultDTO result = service.findBatch(lookup);
+        AuditInterceptor.auditEmployees(request, result.getFoundByCPF().values());
+        AuditInterceptor.auditEmployees(request, result.getFoundById().values());
+        return result;
     }
 
     @PatchMapping("/{id}/fireEmployee")
@@ -40,6 +172,23 @@ public class EmployeeController {
         return service.fireEmployee(id);
     }
 
+    @PostMapping("/{id}/scheduledEvents")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ScheduledEventDTO scheduleEvent(@PathVariable Long id, @RequestBody @Valid ScheduledEventDTO scheduledEventDTO) throws EmployeeNotFoundException, InvalidScheduledEventException {
+        return scheduledEventService.schedule(id, scheduledEventDTO);
+    }
+
+    @GetMapping("/{id}/scheduledEvents")
+    public List<ScheduledEventDTO> findScheduledEvents(@PathVariable Long id) {
+        return scheduledEventService.findByEmployee(id);
+    }
+
+    @DeleteMapping("/scheduledEvents/{eventId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelScheduledEvent(@PathVariable Long eventId) throws ScheduledEventNotFoundException {
+        scheduledEventService.cancel(eventId);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteEmployee(@PathVariable Long id) throws EmployeeNotFoundException {
@@ -56,6 +205,11 @@ public class EmployeeController {
         return service.raiseProfitShare(id, value.getValue());
     }
 
+    @PostMapping("/profitShare/distribution")
+    public ProfitShareDistributionResultDTO distributeProfitShare(@RequestBody @Valid ProfitShareDistributionDTO distribution) {
+        return distributionService.distribute(distribution);
+    }
+
     @PatchMapping("/{id}/lowerProfitShare")
     public EmployeeDTO lowerProfitShare(@PathVariable Long id, @RequestBody @Valid EmployeeChangeableValues value) throws EmployeeNotFoundException, ProfitShareLesserThanZeroException {
         return service.lowerProfitShare(id, value.getValue());
@@ -0,0 +1,29 @@
+package com.learning.employee_management.converter;
+
+import com.learning.employee_management.cpf.Cpf;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+
+        if (cpf == null) {
+            return null;
+        }
+        long key = Cpf.parse(cpf);
+        if (key == Cpf.INVALID) {
+            throw new IllegalArgumentException(String.format("CPF %s is not 11 digits", cpf));
+        }
+        return key;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long key) {
+        return key == null ? null : Cpf.format(key);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.learning.employee_management.converter;
+
+import com.learning.employee_management.enums.Role;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class RoleConverter implements AttributeConverter<Role, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Role role) {
+        return role == null ? null : role.getCode();
+    }
+
+    @Override
+    public Role convertToEntityAttribute(String code) {
+        return code == null ? null : Role.fromCode(code);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.learning.employee_management.cpf;
+
+/**
+ * CPF is kept as a {@code long} key (its 11 digits, leading zeros dropped); this class parses,
+ * validates and formats it. Parsing accepts the usual {@code 000.000.000-00} punctuation.
+ */
+public final class Cpf {
+
+    public static final int LENGTH = 11;
+    public static final long INVALID = -1;
+
+    private static final String MASKED = "***.***.***-";
+
+    private Cpf() {
+    }
+
+    public static long parse(String cpf) {
+
+        if (cpf == null) {
+            return INVALID;
+        }
+        long key = 0;
+        int digits = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > LENGTH) {
+                    return INVALID;
+                }
+                key = key * 10 + (c - '0');
+            } else if (c != '.' && c != '-') {
+                return INVALID;
+            }
+        }
+        return digits == LENGTH ? key : INVALID;
+    }
+
+    public static boolean isValid(long key) {
+
+        if (key < 0 || key > 99_999_999_999L || key % 11_111_111_111L == 0) {
+            return false;
+        }
+        int[] digits = new int[LENGTH];
+        long rest = key;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (int) (rest % 10);
+            rest /= 10;
+        }
+        return checkDigit(digits, 9) == digits[9] && checkDigit(digits, 10) == digits[10];
+    }
+
+    /**
+     * Hides all but the check digits: {@code ***.***.***-90}.
+     */
+    public static String mask(long key) {
+        return MASKED + format(key).substring(LENGTH - 2);
+    }
+
+    public static String format(long key) {
+
+        char[] formatted = new char[LENGTH];
+        long rest = key;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            formatted[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        return new String(formatted);
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.learning.employee_management.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnniversaryDTO {
+
+    private Long id;
+    private String name;
+    private String lastName;
+    private String CPF;
+    private Role role;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate admissionDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate anniversaryDate;
+    private int years;
+
+}
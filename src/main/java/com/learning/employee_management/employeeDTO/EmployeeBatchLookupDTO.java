@@ -0,0 +1,26 @@
+package com.learning.employee_management.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchLookupDTO {
+
+    public static final int MAX_KEYS = 5000;
+
+    @Size(max = MAX_KEYS)
+    private List<String> cpfs = new ArrayList<>();
+
+    @Size(max = MAX_KEYS)
+    private List<Long> ids = new ArrayList<>();
+
+
+}
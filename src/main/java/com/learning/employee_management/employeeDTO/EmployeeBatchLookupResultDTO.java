@@ -0,0 +1,27 @@
+package com.learning.employee_management.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchLookupResultDTO {
+
+    private Map<String, EmployeeDTO> foundByCPF = new LinkedHashMap<>();
+
+    private List<String> missingCPFs = new ArrayList<>();
+
+    private Map<Long, EmployeeDTO> foundById = new LinkedHashMap<>();
+
+    private List<Long> missingIds = new ArrayList<>();
+
+
+}
@@ -1,7 +1,11 @@
 package com.learning.employee_management.employeeDTO;
 
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.money.CentsDeserializer;
+import com.learning.employee_management.money.CentsSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +19,9 @@ import lombok.NoArgsConstructor;
 public class EmployeeChangeableValues {
 
 
-    private double value;
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long value;
 
     private Role role;
 
@@ -2,7 +2,10 @@ package com.learning.employee_management.employeeDTO;
 
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.money.CentsDeserializer;
+import com.learning.employee_management.money.CentsSerializer;
 import lombok.*;
 
 import javax.validation.constraints.Min;
@@ -19,24 +22,37 @@ import java.time.LocalDate;
 @NoArgsConstructor
 public class EmployeeDTO {
 
+    public static final int NAME_MIN_SIZE = 3;
+    public static final int NAME_MAX_SIZE = 10;
+    public static final int LAST_NAME_MIN_SIZE = 3;
+    public static final int LAST_NAME_MAX_SIZE = 60;
+    public static final String CPF_PATTERN = "[0-9]{3}\\.?[0-9]{3}\\.?[0-9]{3}-?[0-9]{2}";
+    public static final long MIN_SALARY = 1100_00;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private Long id;
     @NotNull
-    @Size(min = 3, max = 10)
+    @Size(min = NAME_MIN_SIZE, max = NAME_MAX_SIZE)
     private String name;
     @NotNull
-    @Size(min = 3, max = 60)
+    @Size(min = LAST_NAME_MIN_SIZE, max = LAST_NAME_MAX_SIZE)
     private String lastName;
     @NotNull
-    @Pattern(regexp = "[0-9]{11}")
+    @Pattern(regexp = CPF_PATTERN)
     private String CPF;
     @NotNull
-    @Min(1100)
-    private double salary;
+    @Min(MIN_SALARY)
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long salary;
     @NotNull
-    private double profitShare;
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long profitShare;
     @NotNull
-    private double maxProfitShare;
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long maxProfitShare;
     @NotNull
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
     private LocalDate admissionDate;
@@ -47,9 +63,12 @@ public class EmployeeDTO {
     @NotNull
     private Role role;
 
+    @JsonIgnore
+    private long version;
+
     @Builder
     public EmployeeDTO(Long id, String name, String lastName, String CPF,
-                       double salary, double profitShare, double maxProfitShare,
+                       long salary, long profitShare, long maxProfitShare,
                        LocalDate admissionDate, Role role) {
         this.id = id;
         this.name = name;
@@ -62,5 +81,13 @@ public class EmployeeDTO {
         this.role = role;
     }
 
+    public EmployeeDTO(Long id, String name, String lastName, String CPF,
+                       long salary, long profitShare, long maxProfitShare,
+                       LocalDate admissionDate, LocalDate dismissalDate, Role role, long version) {
+        this(id, name, lastName, CPF, salary, profitShare, maxProfitShare, admissionDate, role);
+        this.dismissalDate = dismissalDate;
+        this.version = version;
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class EmployeeFilter {
+
+    public static final Set<String> SORTABLE_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "id", "name", "lastName", "salary", "profitShare", "maxProfitShare", "admissionDate")));
+
+    private Role role;
+
+    private BigDecimal minSalary;
+
+    private BigDecimal maxSalary;
+
+    private Boolean active;
+
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate admittedFrom;
+
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate admittedTo;
+
+    private String sort;
+
+    private String direction;
+
+    private Long afterId;
+
+    private String afterValue;
+
+    @Min(1)
+    @Max(1000)
+    private Integer size;
+
+
+    public boolean hasCriteria() {
+        return role != null || minSalary != null || maxSalary != null || active != null
+                || admittedFrom != null || admittedTo != null || sort != null || direction != null
+                || afterId != null || afterValue != null || size != null;
+    }
+
+    /**
+     * The sort value of the last row of the previous page, as the response showed it, converted
+     * to what the column stores: cents for money, a date for admissionDate, the text for names.
+     * Throws {@link IllegalArgumentException} when it is missing or does not parse.
+     */
+    public Comparable<?> afterSortValue() {
+
+        if (afterValue == null) {
+            throw new IllegalArgumentException("afterValue is required to page by " + sort);
+        }
+        switch (sort) {
+            case "salary":
+            case "profitShare":
+            case "maxProfitShare":
+                return Money.toCents(new BigDecimal(afterValue).setScale(Money.SCALE, RoundingMode.HALF_UP));
+            case "admissionDate":
+                return LocalDate.parse(afterValue, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+            default:
+                return afterValue;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.learning.employee_management.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+
+    private String importId;
+    private long rows;
+    private long imported;
+    private long rejected;
+
+}
@@ -0,0 +1,24 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.learning.employee_management.money.CentsSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollTotalDTO {
+
+    private long activeEmployees;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long salaries;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long profitShares;
+
+
+}
@@ -0,0 +1,23 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.learning.employee_management.money.CentsSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitShareAllocationDTO {
+
+    private Long id;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long amount;
+
+    private boolean capped;
+
+
+}
@@ -0,0 +1,27 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.learning.employee_management.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+
+@Getter
+@AllArgsConstructor
+public class ProfitShareCandidate {
+
+    private final Long id;
+
+    private final long salary;
+
+    private final long profitShare;
+
+    private final long maxProfitShare;
+
+    private final LocalDate admissionDate;
+
+    private final Role role;
+
+
+}
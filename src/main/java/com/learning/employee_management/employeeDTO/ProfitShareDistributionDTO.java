@@ -0,0 +1,40 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.learning.employee_management.enums.DistributionWeighting;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.money.CentsDeserializer;
+import com.learning.employee_management.money.CentsSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ProfitShareDistributionDTO {
+
+    @Min(1)
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long pool;
+
+    @NotNull
+    private DistributionWeighting weighting;
+
+    @Builder.Default
+    private Map<Role, Double> roleWeights = new EnumMap<>(Role.class);
+
+    private boolean dryRun;
+
+
+}
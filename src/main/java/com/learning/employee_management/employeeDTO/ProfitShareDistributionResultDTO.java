@@ -0,0 +1,38 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.learning.employee_management.money.CentsSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitShareDistributionResultDTO {
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long pool;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long distributed;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    private long undistributed;
+
+    private int employees;
+
+    private int cappedEmployees;
+
+    private int appliedEmployees;
+
+    private boolean dryRun;
+
+    private List<ProfitShareAllocationDTO> allocations = new ArrayList<>();
+
+
+}
@@ -0,0 +1,51 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.learning.employee_management.enums.LifecycleEventType;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.enums.ScheduledEventStatus;
+import com.learning.employee_management.money.CentsDeserializer;
+import com.learning.employee_management.money.CentsSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ScheduledEventDTO {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long id;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long employeeId;
+
+    @NotNull
+    private LifecycleEventType type;
+
+    @NotNull
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate effectiveDate;
+
+    private Role role;
+
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private Long amount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ScheduledEventStatus status;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String failureReason;
+
+}
@@ -0,0 +1,34 @@
+package com.learning.employee_management.employeeDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenureDistributionDTO {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate asOf;
+
+    private long activeEmployees;
+
+    private List<TenureBucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TenureBucket {
+
+        private int years;
+
+        private long employees;
+
+    }
+
+}
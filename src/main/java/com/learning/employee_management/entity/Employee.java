@@ -1,17 +1,29 @@
 package com.learning.employee_management.entity;
 
+import com.learning.employee_management.converter.CpfConverter;
+import com.learning.employee_management.converter.RoleConverter;
 import com.learning.employee_management.enums.Role;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 
 @Data
 @Entity
+@Table(name = "employee", indexes = {
+        @Index(name = "ix_employee_role_dismissal", columnList = "role, dismissal_date"),
+        @Index(name = "ux_employee_cpf", columnList = "cpf", unique = true),
+        @Index(name = "ix_employee_admission", columnList = "admission_date"),
+        @Index(name = "ix_employee_salary", columnList = "salary_cents")
+})
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Employee {
 
     @Id
@@ -24,17 +36,18 @@ public class Employee {
     @Column(nullable = false)
     private String lastName;
 
+    @Convert(converter = CpfConverter.class)
     @Column(nullable = false)
     private String CPF;
 
-    @Column(nullable = false)
-    private double salary;
+    @Column(name = "salary_cents", nullable = false)
+    private long salary;
 
-    @Column(nullable = false)
-    private double profitShare;
+    @Column(name = "profit_share_cents", nullable = false)
+    private long profitShare;
 
-    @Column(nullable = false)
-    private double maxProfitShare;
+    @Column(name = "max_profit_share_cents", nullable = false)
+    private long maxProfitShare;
 
     @Column(nullable = false)
     private LocalDate admissionDate;
@@ -42,9 +55,14 @@ public class Employee {
 
     private LocalDate dismissalDate;
 
-    @Column(nullable = false)
+    @Convert(converter = RoleConverter.class)
+    @Column(nullable = false, length = 1)
     private Role role;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
 
 }
 
@@ -0,0 +1,57 @@
+package com.learning.employee_management.entity;
+
+import com.learning.employee_management.converter.RoleConverter;
+import com.learning.employee_management.enums.LifecycleEventType;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.enums.ScheduledEventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "scheduled_employee_event", indexes = {
+        @Index(name = "ix_scheduled_event_due", columnList = "status, effective_date"),
+        @Index(name = "ix_scheduled_event_employee", columnList = "employee_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledEmployeeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private LifecycleEventType type;
+
+    @Column(nullable = false)
+    private LocalDate effectiveDate;
+
+    @Convert(converter = RoleConverter.class)
+    @Column(length = 1)
+    private Role role;
+
+    @Column(name = "amount_cents")
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduledEventStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    private String failureReason;
+
+}
@@ -0,0 +1,9 @@
+package com.learning.employee_management.enums;
+
+public enum LifecycleEventType {
+
+    DISMISSAL,
+    ROLE_CHANGE,
+    SALARY_RAISE
+
+}
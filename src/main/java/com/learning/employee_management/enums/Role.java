@@ -8,12 +8,25 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum Role {
 
-    OWNER("Owner"),
-    DIRECTOR("Director"),
-    MANAGER("Manager"),
-    SPECIALIST("Specialist"),
-    TECHNICIAN("Technician");
+    OWNER("Owner", "O"),
+    DIRECTOR("Director", "D"),
+    MANAGER("Manager", "M"),
+    SPECIALIST("Specialist", "S"),
+    TECHNICIAN("Technician", "T");
 
 
     private final String description;
+
+    private final String code;
+
+
+    public static Role fromCode(String code) {
+
+        for (Role role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Role code %s not exists", code));
+    }
 }
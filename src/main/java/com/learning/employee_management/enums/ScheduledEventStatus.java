@@ -0,0 +1,10 @@
+package com.learning.employee_management.enums;
+
+public enum ScheduledEventStatus {
+
+    PENDING,
+    APPLIED,
+    FAILED,
+    CANCELLED
+
+}
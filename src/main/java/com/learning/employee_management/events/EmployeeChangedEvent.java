@@ -0,0 +1,39 @@
+package com.learning.employee_management.events;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by the services after employees are written. {@code bulk} events come from set-based
+ * updates that do not know which rows changed; listeners are expected to reload.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmployeeChangedEvent {
+
+    private final List<EmployeeDTO> changed;
+    private final List<EmployeeDTO> deleted;
+    private final boolean bulk;
+
+    public static EmployeeChangedEvent changed(EmployeeDTO employeeDTO) {
+        return new EmployeeChangedEvent(Collections.singletonList(employeeDTO), Collections.emptyList(), false);
+    }
+
+    public static EmployeeChangedEvent changed(List<EmployeeDTO> employeeDTOs) {
+        return new EmployeeChangedEvent(employeeDTOs, Collections.emptyList(), false);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeDTO employeeDTO) {
+        return new EmployeeChangedEvent(Collections.emptyList(), Collections.singletonList(employeeDTO), false);
+    }
+
+    public static EmployeeChangedEvent bulk() {
+        return new EmployeeChangedEvent(Collections.emptyList(), Collections.emptyList(), true);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.learning.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ImportInProgressException extends Exception {
+
+    public ImportInProgressException(String tenant) {
+        super(String.format("Too many imports running for tenant %s, try again when they finish", tenant));
+    }
+}
@@ -0,0 +1,12 @@
+package com.learning.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportNotFoundException extends Exception {
+
+    public ImportNotFoundException(String importId) {
+        super(String.format("Import %s not found", importId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.learning.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCpfException extends Exception {
+
+    public InvalidCpfException(String cpf) {
+
+        super(String.format("CPF %s is not valid", cpf));
+    }
+}
@@ -0,0 +1,18 @@
+package com.learning.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSortException extends Exception {
+
+    public InvalidSortException(String sort) {
+
+        super(String.format("Sort by %s is not supported", sort));
+    }
+
+    public InvalidSortException(String sort, String afterValue) {
+
+        super(String.format("afterValue %s is not a valid %s", afterValue, sort));
+    }
+}
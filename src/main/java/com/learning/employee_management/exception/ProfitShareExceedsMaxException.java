@@ -1,13 +1,14 @@
 package com.learning.employee_management.exception;
 
+import com.learning.employee_management.money.Money;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class ProfitShareExceedsMaxException extends Exception {
 
-    public ProfitShareExceedsMaxException(double maxValue) {
+    public ProfitShareExceedsMaxException(long maxValue) {
 
-        super(String.format("Profit share exceeds maximum value allowed (Max = %s)", maxValue));
+        super(String.format("Profit share exceeds maximum value allowed (Max = %s)", Money.format(maxValue)));
     }
 }
@@ -0,0 +1,12 @@
+package com.learning.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ScheduledEventNotFoundException extends Exception {
+
+    public ScheduledEventNotFoundException(Long id) {
+        super(String.format("Pending scheduled event with id %s not found", id));
+    }
+}
@@ -0,0 +1,180 @@
+package com.learning.employee_management.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes CSV straight into a reused {@link ByteBuffer} that is drained to a channel when full,
+ * so memory stays constant however many rows are written. ASCII text, numbers and dates are
+ * encoded without creating intermediate strings.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[20];
+    private boolean firstField = true;
+
+    public CsvWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvWriter(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    public CsvWriter text(String value) throws IOException {
+
+        separator();
+        if (value == null) {
+            return this;
+        }
+        boolean quote = false;
+        boolean ascii = true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+            } else if (c >= 0x80) {
+                ascii = false;
+            }
+        }
+        if (!quote && ascii && value.length() <= buffer.capacity()) {
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+            return this;
+        }
+        String escaped = quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+        write(escaped.getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public CsvWriter number(long value) throws IOException {
+
+        separator();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Writes cents as a decimal amount with two places, e.g. {@code 3000000} as {@code 30000.00}.
+     */
+    public CsvWriter money(long cents) throws IOException {
+
+        separator();
+        if (cents < 0) {
+            ensure(1);
+            buffer.put((byte) '-');
+        }
+        long units = Math.abs(cents / 100);
+        long fraction = Math.abs(cents % 100);
+        writeLong(units);
+        ensure(3);
+        buffer.put((byte) '.').put((byte) ('0' + fraction / 10)).put((byte) ('0' + fraction % 10));
+        return this;
+    }
+
+    /**
+     * Writes an ISO-8601 date ({@code yyyy-MM-dd}), or an empty field for {@code null}.
+     */
+    public CsvWriter date(LocalDate value) throws IOException {
+
+        separator();
+        if (value == null) {
+            return this;
+        }
+        ensure(10);
+        int year = value.getYear();
+        buffer.put((byte) ('0' + year / 1000 % 10)).put((byte) ('0' + year / 100 % 10))
+                .put((byte) ('0' + year / 10 % 10)).put((byte) ('0' + year % 10)).put((byte) '-');
+        twoDigits(value.getMonthValue());
+        buffer.put((byte) '-');
+        twoDigits(value.getDayOfMonth());
+        return this;
+    }
+
+    public void endRow() throws IOException {
+
+        ensure(1);
+        buffer.put((byte) '\n');
+        firstField = true;
+    }
+
+    public void flush() throws IOException {
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        flush();
+        channel.close();
+    }
+
+    private void separator() throws IOException {
+
+        if (!firstField) {
+            ensure(1);
+            buffer.put((byte) ',');
+        }
+        firstField = false;
+    }
+
+    private void twoDigits(int value) {
+        buffer.put((byte) ('0' + value / 10)).put((byte) ('0' + value % 10));
+    }
+
+    private void writeLong(long value) throws IOException {
+
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        long rest = Math.abs(value);
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest > 0);
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+        ensure(digits.length - position);
+        buffer.put(digits, position, digits.length - position);
+    }
+
+    private void write(byte[] bytes) throws IOException {
+
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.learning.employee_management.export;
+
+import com.learning.employee_management.EmployeeManagementApplication;
+import com.learning.employee_management.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Command-line export, started on its own instead of alongside the web application:
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.learning.employee_management.export.RosterExportApplication \
+ *     org.springframework.boot.loader.PropertiesLauncher --employee.export.path=roster.csv.gz
+ * </pre>
+ * It runs without a web server under the {@code export} profile, which keeps the startup jobs
+ * (cache warmup, scheduled events, indexes) from running. A path ending in {@code .gz} is
+ * compressed. The file is written next to the target and moved into place when complete.
+ * {@code employee.export.tenant} picks the roster to export.
+ */
+@Slf4j
+public final class RosterExportApplication {
+
+    public static final String PROFILE = "export";
+
+    private RosterExportApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(PROFILE)
+                .run(args)) {
+            Environment environment = context.getEnvironment();
+            export(context.getBean(RosterExporter.class), environment.getRequiredProperty("employee.export.path"),
+                    environment.getProperty("employee.export.tenant", TenantContext.DEFAULT_TENANT));
+        }
+    }
+
+    private static void export(RosterExporter exporter, String path, String tenant) throws Exception {
+
+        Path target = Paths.get(path).toAbsolutePath();
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        long start = System.nanoTime();
+        long rows;
+        try (OutputStream outputStream = Files.newOutputStream(partial)) {
+            rows = TenantContext.callAs(tenant, () -> exporter.export(outputStream, path.endsWith(".gz")));
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Exported {} employees of tenant {} to {} in {} ms ({} rows/s)", rows, tenant, target, millis, rows * 1000 / millis);
+    }
+
+}
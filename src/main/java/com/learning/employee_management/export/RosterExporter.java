@@ -0,0 +1,110 @@
+package com.learning.employee_management.export;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.enums.Role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the employee table into CSV from a forward-only JDBC cursor. Rows go from the
+ * {@code ResultSet} straight to the output buffer, with no entity, DTO or JSON in between.
+ * <p>
+ * H2 ignores the fetch size and materializes the whole result unless the session runs with
+ * {@code LAZY_QUERY_EXECUTION}, so the export switches it on for its own transaction and back
+ * off before the connection returns to the pool.
+ */
+@Component
+public class RosterExporter {
+
+    public static final String HEADER = "id,name,last_name,cpf,salary,profit_share,max_profit_share,admission_date,dismissal_date,role";
+
+    private static final String ROSTER_QUERY = "SELECT id, name, last_name, cpf, salary_cents, profit_share_cents, "
+            + "max_profit_share_cents, admission_date, dismissal_date, role FROM employee ORDER BY id";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private static final String H2 = "H2";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${employee.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream, boolean gzip) throws IOException {
+
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+        CsvWriter writer = new CsvWriter(Channels.newChannel(target));
+        long[] rows = {0};
+        for (String column : HEADER.split(",")) {
+            writer.text(column);
+        }
+        writer.endRow();
+        boolean lazy = lazyQueryExecution(true);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(ROSTER_QUERY,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, resultSet -> {
+                try {
+                    writer.number(resultSet.getLong(1))
+                            .text(resultSet.getString(2))
+                            .text(resultSet.getString(3))
+                            .text(Cpf.format(resultSet.getLong(4)))
+                            .money(resultSet.getLong(5))
+                            .money(resultSet.getLong(6))
+                            .money(resultSet.getLong(7))
+                            .date(resultSet.getObject(8, LocalDate.class))
+                            .date(resultSet.getObject(9, LocalDate.class))
+                            .text(Role.fromCode(resultSet.getString(10)).name());
+                    writer.endRow();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (lazy) {
+                lazyQueryExecution(false);
+            }
+        }
+        writer.flush();
+        if (target instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) target).finish();
+        }
+        target.flush();
+        return rows[0];
+    }
+
+    private boolean lazyQueryExecution(boolean enabled) {
+
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!H2.equals(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LAZY_QUERY_EXECUTION " + (enabled ? 1 : 0));
+            }
+            return true;
+        });
+    }
+
+}
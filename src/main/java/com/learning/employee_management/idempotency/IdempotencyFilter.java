@@ -0,0 +1,281 @@
+package com.learning.employee_management.idempotency;
+
+import com.learning.employee_management.ratelimit.RateLimitInterceptor;
+import com.learning.employee_management.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replays the stored response of a mutating call when it is retried with the same
+ * {@code Idempotency-Key}, so the service method runs only once per key. Keys belong to the
+ * client as the rate limiter identifies it, and a key reused with a different body is answered
+ * with 422 instead of the stored response. The body is hashed as it streams, never buffered.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String API_PATH = "/api/";
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final int DRAIN_BUFFER_SIZE = 8 * 1024;
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Value("${employee.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMillis = 10000;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        boolean mutating = method == HttpMethod.POST || method == HttpMethod.PATCH
+                || method == HttpMethod.PUT || method == HttpMethod.DELETE;
+        return !mutating || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String key = key(request);
+        IdempotencyStore.Entry entry = store.newEntry();
+        byte[] fingerprint = null;
+
+        for (; ; ) {
+            IdempotencyStore.Entry existing = store.begin(key, entry);
+            if (existing == null) {
+                execute(key, entry, request, response, chain);
+                return;
+            }
+
+            StoredResponse storedResponse;
+            try {
+                storedResponse = existing.await(waitTimeoutMillis);
+            } catch (TimeoutException e) {
+                response.setStatus(HttpStatus.CONFLICT.value());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+
+            if (storedResponse != null) {
+                if (fingerprint == null) {
+                    fingerprint = fingerprint(request.getInputStream());
+                }
+                if (!MessageDigest.isEqual(fingerprint, storedResponse.getRequestFingerprint())) {
+                    response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+                    return;
+                }
+                replay(storedResponse, response);
+                return;
+            }
+        }
+    }
+
+    private void execute(String key, IdempotencyStore.Entry entry, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+
+        FingerprintingRequest fingerprinting = new FingerprintingRequest(request);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        byte[] fingerprint;
+        try {
+            chain.doFilter(fingerprinting, wrapper);
+            fingerprint = fingerprinting.fingerprint();
+        } catch (ServletException | IOException | RuntimeException e) {
+            store.abandon(key, entry);
+            throw e;
+        }
+
+        if (isFinal(wrapper.getStatus())) {
+            store.complete(key, entry, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray(), fingerprint));
+        } else {
+            store.abandon(key, entry);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Only responses that say the request was processed are replayed. Throttling, conflicts, timeouts
+     * and server errors leave nothing done, so a retry with the same key runs again.
+     */
+    private static boolean isFinal(int status) {
+
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        if (httpStatus == null || httpStatus.is5xxServerError()) {
+            return false;
+        }
+        switch (httpStatus) {
+            case REQUEST_TIMEOUT:
+            case CONFLICT:
+            case LOCKED:
+            case TOO_EARLY:
+            case TOO_MANY_REQUESTS:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static void replay(StoredResponse storedResponse, HttpServletResponse response) throws IOException {
+
+        response.setStatus(storedResponse.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (storedResponse.getContentType() != null) {
+            response.setContentType(storedResponse.getContentType());
+        }
+        response.setContentLength(storedResponse.getBody().length);
+        response.getOutputStream().write(storedResponse.getBody());
+    }
+
+    /**
+     * Keyed on the principal or remote address, not on {@code X-Client-Id}: a caller that could pick
+     * the client would be replayed another client's responses.
+     */
+    private static String key(HttpServletRequest request) {
+
+        return TenantContext.get() + '|' + RateLimitInterceptor.clientId(request) + '|' + request.getMethod() + '|'
+                + request.getRequestURI() + '|' + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private static byte[] fingerprint(InputStream body) throws IOException {
+
+        MessageDigest digest = newDigest();
+        drain(body, digest);
+        return digest.digest();
+    }
+
+    private static void drain(InputStream body, MessageDigest digest) throws IOException {
+
+        byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+        for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+
+        try {
+            return MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Hashes the body as the handler reads it; whatever the handler leaves unread is hashed
+     * afterwards, so the fingerprint always covers the whole body.
+     */
+    private static final class FingerprintingRequest extends HttpServletRequestWrapper {
+
+        private final MessageDigest digest = newDigest();
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        private FingerprintingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+
+            if (inputStream == null) {
+                inputStream = new FingerprintingInputStream(super.getInputStream(), digest);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        private byte[] fingerprint() throws IOException {
+
+            drain(getInputStream(), digest);
+            return digest.digest();
+        }
+
+    }
+
+    private static final class FingerprintingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final MessageDigest digest;
+
+        private FingerprintingInputStream(ServletInputStream delegate, MessageDigest digest) {
+            this.delegate = delegate;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            int read = delegate.read();
+            if (read != -1) {
+                digest.update((byte) read);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                digest.update(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+    }
+
+}
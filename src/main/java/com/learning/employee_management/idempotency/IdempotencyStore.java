@@ -0,0 +1,124 @@
+package com.learning.employee_management.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded in-memory store of responses by idempotency key. The first caller of a key owns it
+ * until it completes or abandons it, through the entry it began with; concurrent duplicates wait on
+ * the owner's result.
+ */
+@Component
+public class IdempotencyStore {
+
+    @Value("${employee.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds = 86400;
+
+    @Value("${employee.idempotency.max-entries:100000}")
+    private int maxEntries = 100000;
+
+    @Value("${employee.idempotency.in-flight-timeout-seconds:60}")
+    private long inFlightTimeoutSeconds = 60;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public Entry newEntry() {
+        return new Entry();
+    }
+
+    /**
+     * @return null when {@code entry} now owns the key, otherwise the entry of the call that owns it
+     */
+    public Entry begin(String key, Entry entry) {
+
+        long now = System.currentTimeMillis();
+        evictIfFull(now);
+
+        entry.expiresAt = now + TimeUnit.SECONDS.toMillis(inFlightTimeoutSeconds);
+        for (; ; ) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                return null;
+            }
+            if (!existing.isExpired(now)) {
+                return existing;
+            }
+            if (entries.replace(key, existing, entry)) {
+                existing.response.complete(null);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Stores the owner's response. An owner whose key was taken over after timing out only
+     * releases its own waiters; the successor's entry is left alone.
+     */
+    public void complete(String key, Entry entry, StoredResponse response) {
+
+        if (entries.get(key) == entry) {
+            entry.expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+        }
+        entry.response.complete(response);
+    }
+
+    public void abandon(String key, Entry entry) {
+
+        entries.remove(key, entry);
+        entry.response.complete(null);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull(long now) {
+
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            if (iterator.next().response.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static class Entry {
+
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private volatile long expiresAt;
+
+        private Entry() {
+        }
+
+        /**
+         * @return the owner's response, or null when the owner abandoned the key
+         */
+        public StoredResponse await(long timeoutMillis) throws InterruptedException, TimeoutException {
+
+            try {
+                return response.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.learning.employee_management.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+
+    private final int status;
+
+    private final String contentType;
+
+    private final byte[] body;
+
+    /**
+     * Hash of the request body the response answered, so a key reused with another body is caught.
+     */
+    private final byte[] requestFingerprint;
+
+}
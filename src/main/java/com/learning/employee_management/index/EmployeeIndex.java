@@ -0,0 +1,304 @@
+package com.learning.employee_management.index;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-mostly in-process index of employees by id and by CPF key. Lookups probe primitive
+ * open-addressing tables and return the immutable {@link EmployeeRecord}, so a hit allocates
+ * nothing. Changes to a known employee replace its record in place; new employees and reloads
+ * copy the tables and publish the copy, compacting deleted slots on the way. Each tenant has its
+ * own tables.
+ * <p>
+ * Change events commit independently and may arrive out of order, so records carry the entity
+ * version and older ones never replace newer ones. Bulk changes reload the index on a background
+ * thread, off the committing request.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "employee.index.enabled", havingValue = "true")
+public class EmployeeIndex implements ApplicationRunner {
+
+    private static final int MIN_CAPACITY = 16;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    private static final Table EMPTY = Table.of(Collections.emptyList(), MIN_CAPACITY);
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+    private final Map<String, List<Change>> changesDuringReload = new HashMap<>();
+    private final Map<String, Future<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final Object reloadLock = new Object();
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "employee-index-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        for (String tenant : tenantRegistry.getTenants()) {
+            TenantContext.runAs(tenant, () -> {
+                long start = System.nanoTime();
+                reload();
+                log.info("Indexed {} employees of tenant {} in {} ms", size(), tenant, (System.nanoTime() - start) / 1_000_000);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    public EmployeeRecord byId(long id) {
+
+        Table current = table();
+        int slot = current.byId.get(id);
+        return slot == LongIntOpenHashMap.MISSING ? null : current.records.get(slot);
+    }
+
+    public EmployeeRecord byCpf(long cpf) {
+
+        Table current = table();
+        int slot = current.byCpf.get(cpf);
+        if (slot == LongIntOpenHashMap.MISSING) {
+            return null;
+        }
+        EmployeeRecord record = current.records.get(slot);
+        return record != null && record.getCpf() == cpf ? record : null;
+    }
+
+    public int size() {
+        return table().live();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+
+        if (event.isBulk()) {
+            reloadInBackground();
+            return;
+        }
+        List<EmployeeRecord> changed = new ArrayList<>(event.getChanged().size());
+        for (EmployeeDTO employeeDTO : event.getChanged()) {
+            changed.add(EmployeeRecord.of(employeeDTO));
+        }
+        upsert(changed);
+        for (EmployeeDTO employeeDTO : event.getDeleted()) {
+            remove(employeeDTO.getId(), employeeDTO.getVersion());
+        }
+    }
+
+    /**
+     * Reloads the current tenant off the calling thread. Requests made while a reload is queued share
+     * it; changes applied while it reads the roster are replayed on top of what it read.
+     */
+    public Future<?> reloadInBackground() {
+
+        String tenant = TenantContext.get();
+        return pendingReloads.computeIfAbsent(tenant, key -> reloader.submit(() -> {
+            pendingReloads.remove(tenant);
+            try {
+                TenantContext.runAs(tenant, this::reload);
+            } catch (RuntimeException e) {
+                log.warn("Could not reload the employee index of tenant {}", tenant, e);
+            }
+        }));
+    }
+
+    public void reload() {
+
+        String tenant = TenantContext.get();
+        synchronized (reloadLock) {
+            List<Change> missed = new ArrayList<>();
+            synchronized (this) {
+                changesDuringReload.put(tenant, missed);
+            }
+            List<EmployeeRecord> records = new ArrayList<>();
+            try {
+                for (EmployeeDTO employeeDTO : repository.findAllDTOs()) {
+                    records.add(EmployeeRecord.of(employeeDTO));
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReload.remove(tenant);
+                }
+                throw e;
+            }
+            synchronized (this) {
+                changesDuringReload.remove(tenant);
+                tables.put(tenant, Table.of(records, records.size() * 2));
+                for (Change change : missed) {
+                    if (change.deleted) {
+                        remove(change.record.getId(), change.record.getVersion());
+                    } else {
+                        upsert(Collections.singletonList(change.record));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records older than the indexed version of the same employee, or than its deletion, are stale
+     * events delivered out of order and are ignored.
+     */
+    public synchronized void upsert(Collection<EmployeeRecord> records) {
+
+        Table current = table();
+        List<Change> missed = changesDuringReload.get(TenantContext.get());
+        Map<Long, EmployeeRecord> added = new LinkedHashMap<>();
+        for (EmployeeRecord record : records) {
+            if (missed != null) {
+                missed.add(new Change(record, false));
+            }
+            Long deletedVersion = current.deleted.get(record.getId());
+            if (deletedVersion != null && record.getVersion() <= deletedVersion) {
+                continue;
+            }
+            int slot = current.byId.get(record.getId());
+            EmployeeRecord previous = slot == LongIntOpenHashMap.MISSING ? null : current.records.get(slot);
+            if (previous != null && record.getVersion() < previous.getVersion()) {
+                continue;
+            }
+            if (previous != null && previous.getCpf() == record.getCpf()) {
+                current.records.set(slot, record);
+            } else {
+                added.merge(record.getId(), record, (older, newer) -> newer.getVersion() < older.getVersion() ? older : newer);
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        List<EmployeeRecord> merged = new ArrayList<>(current.used + added.size());
+        for (int slot = 0; slot < current.used; slot++) {
+            EmployeeRecord record = current.records.get(slot);
+            if (record != null && !added.containsKey(record.getId())) {
+                merged.add(record);
+            }
+        }
+        merged.addAll(added.values());
+        tables.put(TenantContext.get(), Table.of(merged, Math.max(merged.size() * 2, current.records.length()),
+                current == EMPTY ? new ConcurrentHashMap<>() : current.deleted));
+    }
+
+    public synchronized void remove(long id, long version) {
+
+        Table current = table();
+        List<Change> missed = changesDuringReload.get(TenantContext.get());
+        if (missed != null) {
+            missed.add(new Change(new EmployeeRecord(id, 0, null, null, 0, 0, 0, null, null, null, version), true));
+        }
+        if (current == EMPTY) {
+            current = Table.of(Collections.emptyList(), MIN_CAPACITY);
+            tables.put(TenantContext.get(), current);
+        }
+        current.deleted.merge(id, version, Math::max);
+        int slot = current.byId.get(id);
+        if (slot != LongIntOpenHashMap.MISSING) {
+            EmployeeRecord previous = current.records.get(slot);
+            if (previous != null && previous.getVersion() <= version) {
+                current.records.set(slot, null);
+            }
+        }
+    }
+
+    private Table table() {
+        return tables.getOrDefault(TenantContext.get(), EMPTY);
+    }
+
+    private static final class Table {
+
+        private final LongIntOpenHashMap byId;
+        private final LongIntOpenHashMap byCpf;
+        private final AtomicReferenceArray<EmployeeRecord> records;
+        private final int used;
+        // versions of employees deleted since the last reload, shared by the copies of a table
+        private final Map<Long, Long> deleted;
+
+        private Table(LongIntOpenHashMap byId, LongIntOpenHashMap byCpf, AtomicReferenceArray<EmployeeRecord> records, int used,
+                      Map<Long, Long> deleted) {
+            this.byId = byId;
+            this.byCpf = byCpf;
+            this.records = records;
+            this.used = used;
+            this.deleted = deleted;
+        }
+
+        private static Table of(List<EmployeeRecord> records, int capacity) {
+            return of(records, capacity, new ConcurrentHashMap<>());
+        }
+
+        private static Table of(List<EmployeeRecord> records, int capacity, Map<Long, Long> deleted) {
+
+            int size = Math.max(MIN_CAPACITY, Math.max(capacity, records.size()));
+            LongIntOpenHashMap byId = new LongIntOpenHashMap(size);
+            LongIntOpenHashMap byCpf = new LongIntOpenHashMap(size);
+            AtomicReferenceArray<EmployeeRecord> slots = new AtomicReferenceArray<>(size);
+            for (int slot = 0; slot < records.size(); slot++) {
+                EmployeeRecord record = records.get(slot);
+                slots.set(slot, record);
+                byId.put(record.getId(), slot);
+                byCpf.put(record.getCpf(), slot);
+            }
+            return new Table(byId, byCpf, slots, records.size(), deleted);
+        }
+
+        private int live() {
+
+            int live = 0;
+            for (int slot = 0; slot < used; slot++) {
+                if (records.get(slot) != null) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+    }
+
+    private static final class Change {
+
+        private final EmployeeRecord record;
+        private final boolean deleted;
+
+        private Change(EmployeeRecord record, boolean deleted) {
+            this.record = record;
+            this.deleted = deleted;
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.learning.employee_management.index;
+
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class EmployeeRecord {
+
+    private final long id;
+    private final long cpf;
+    private final String name;
+    private final String lastName;
+    private final long salary;
+    private final long profitShare;
+    private final long maxProfitShare;
+    private final LocalDate admissionDate;
+    private final LocalDate dismissalDate;
+    private final Role role;
+    private final long version;
+
+    public static EmployeeRecord of(EmployeeDTO employeeDTO) {
+        return new EmployeeRecord(employeeDTO.getId(), Cpf.parse(employeeDTO.getCPF()), employeeDTO.getName(),
+                employeeDTO.getLastName(), employeeDTO.getSalary(), employeeDTO.getProfitShare(),
+                employeeDTO.getMaxProfitShare(), employeeDTO.getAdmissionDate(), employeeDTO.getDismissalDate(),
+                employeeDTO.getRole(), employeeDTO.getVersion());
+    }
+
+    public boolean isActive() {
+        return dismissalDate == null;
+    }
+
+}
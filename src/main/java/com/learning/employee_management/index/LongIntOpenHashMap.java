@@ -0,0 +1,68 @@
+package com.learning.employee_management.index;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative {@code long} keys to non-negative {@code int} values
+ * with linear probing. Not thread safe: {@link EmployeeIndex} only mutates instances that are
+ * not yet published.
+ */
+final class LongIntOpenHashMap {
+
+    static final int MISSING = -1;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private int size;
+
+    LongIntOpenHashMap(int expectedSize) {
+
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    int get(long key) {
+
+        int index = index(key);
+        long current;
+        while ((current = keys[index]) != EMPTY) {
+            if (current == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    void put(long key, int value) {
+
+        int index = index(key);
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (keys[index] == EMPTY) {
+            if (size + 1 > (keys.length >> 1)) {
+                throw new IllegalStateException("Map is full");
+            }
+            size++;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int index(long key) {
+
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+}
@@ -34,6 +34,7 @@ public interface EmployeeMapper {
         }
 
         employee.setRole(employeeDTO.getRole());
+        employee.setVersion(employeeDTO.getVersion());
 
         return employee;
 
@@ -61,6 +62,7 @@ public interface EmployeeMapper {
         }
 
         employeeDTO.setRole(employee.getRole());
+        employeeDTO.setVersion(employee.getVersion());
 
         return employeeDTO;
 
@@ -0,0 +1,35 @@
+package com.learning.employee_management.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money is kept as a {@code long} amount of cents; this class converts it at the JSON boundary.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static String format(long cents) {
+
+        long units = Math.abs(cents / 100);
+        long fraction = Math.abs(cents % 100);
+        StringBuilder formatted = new StringBuilder(24);
+        if (cents < 0) {
+            formatted.append('-');
+        }
+        formatted.append(units).append('.');
+        if (fraction < 10) {
+            formatted.append('0');
+        }
+        return formatted.append(fraction).toString();
+    }
+
+}
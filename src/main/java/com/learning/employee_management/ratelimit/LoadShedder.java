@@ -0,0 +1,119 @@
+package com.learning.employee_management.ratelimit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rejects a growing share of requests once in-flight requests, threads waiting for a pooled
+ * connection or the moving average of request latency cross their thresholds.
+ */
+@Component
+public class LoadShedder {
+
+    private static final double LATENCY_SMOOTHING = 0.1;
+    private static final double MAX_REJECT_PROBABILITY = 0.9;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.loadshed.max-in-flight:200}")
+    private int maxInFlight;
+
+    @Value("${employee.loadshed.max-awaiting-connections:20}")
+    private int maxAwaitingConnections;
+
+    @Value("${employee.loadshed.max-latency-ms:500}")
+    private long maxLatencyMillis;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+
+    private HikariDataSource hikariDataSource;
+
+    @PostConstruct
+    public void init() {
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            hikariDataSource = null;
+        }
+        meterRegistry.gauge("employee.loadshed.in.flight", inFlight);
+        meterRegistry.gauge("employee.loadshed.latency.average", averageLatencyNanos,
+                latency -> latency.get() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @return the reason the request should be shed, or null when it may proceed
+     */
+    public String shouldShed() {
+
+        String reason = "in-flight";
+        double overload = ratio(inFlight.get(), maxInFlight);
+
+        double latencyOverload = ratio(averageLatencyNanos.get(), TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis));
+        if (latencyOverload > overload) {
+            overload = latencyOverload;
+            reason = "latency";
+        }
+
+        double connectionOverload = ratio(awaitingConnections(), maxAwaitingConnections);
+        if (connectionOverload > overload) {
+            overload = connectionOverload;
+            reason = "connection-queue";
+        }
+
+        if (overload <= 1) {
+            return null;
+        }
+        double rejectProbability = Math.min(MAX_REJECT_PROBABILITY, overload - 1);
+        return ThreadLocalRandom.current().nextDouble() < rejectProbability ? reason : null;
+    }
+
+    public void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    public void requestFinished(long latencyNanos) {
+
+        inFlight.decrementAndGet();
+        for (; ; ) {
+            long average = averageLatencyNanos.get();
+            long updated = average == 0 ? latencyNanos : (long) (average + LATENCY_SMOOTHING * (latencyNanos - average));
+            if (averageLatencyNanos.compareAndSet(average, updated)) {
+                return;
+            }
+        }
+    }
+
+    private int awaitingConnections() {
+
+        if (hikariDataSource == null) {
+            return 0;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    private static double ratio(double value, double threshold) {
+        return threshold <= 0 ? 0 : value / threshold;
+    }
+
+}
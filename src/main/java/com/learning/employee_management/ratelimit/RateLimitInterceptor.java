@@ -0,0 +1,154 @@
+package com.learning.employee_management.ratelimit;
+
+import com.learning.employee_management.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Throttles per client and endpoint and feeds the {@link LoadShedder}. An async request, such as
+ * the streamed export, is dispatched twice but only completes once, so it is counted on its first
+ * dispatch only.
+ */
+@Component
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String START_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".start";
+
+    @Autowired
+    private LoadShedder loadShedder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.ratelimit.capacity:50}")
+    private int capacity;
+
+    @Value("${employee.ratelimit.refill-per-second:20}")
+    private double refillPerSecond;
+
+    @Value("${employee.ratelimit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${employee.ratelimit.prune-interval-ms:10000}")
+    private long pruneIntervalMillis;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruneQueued = new AtomicBoolean();
+    private ScheduledExecutorService pruner;
+
+    @PostConstruct
+    public void init() {
+
+        if (!enabled) {
+            return;
+        }
+        pruner = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "ratelimit-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pruner.scheduleWithFixedDelay(this::prune, pruneIntervalMillis, pruneIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        if (pruner != null) {
+            pruner.shutdownNow();
+        }
+    }
+
+    /**
+     * Forgets the buckets that refilled, which behave exactly like a new bucket. Runs on its own
+     * thread, on a schedule and as soon as the map outgrows {@code max-buckets}.
+     */
+    public void prune() {
+
+        pruneQueued.set(false);
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        if (!enabled || !(handler instanceof HandlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String endpoint = ((HandlerMethod) handler).getMethod().getName();
+
+        String shedReason = loadShedder.shouldShed();
+        if (shedReason != null) {
+            meterRegistry.counter("employee.loadshed.rejected", "endpoint", endpoint, "reason", shedReason).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1);
+            return false;
+        }
+
+        long now = System.nanoTime();
+        if (buckets.size() > maxBuckets && pruner != null && pruneQueued.compareAndSet(false, true)) {
+            pruner.execute(this::prune);
+        }
+        String tenant = TenantContext.get();
+        TokenBucket bucket = buckets.computeIfAbsent(tenant + '|' + clientId(request) + '|' + endpoint,
+                key -> new TokenBucket(capacity, refillPerSecond, now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            meterRegistry.counter("employee.ratelimit.throttled", "endpoint", endpoint, "tenant", tenant).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return false;
+        }
+
+        loadShedder.requestStarted();
+        request.setAttribute(START_ATTRIBUTE, now);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            loadShedder.requestFinished(System.nanoTime() - (Long) start);
+        }
+    }
+
+    /**
+     * Buckets belong to the authenticated principal, or to the remote address. {@code X-Client-Id} is
+     * chosen by the caller and rotating it would hand out a full bucket per request.
+     */
+    public static String clientId(HttpServletRequest request) {
+
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "principal:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds) {
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+}
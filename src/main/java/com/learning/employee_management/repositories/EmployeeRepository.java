@@ -1,15 +1,60 @@
 package com.learning.employee_management.repositories;
 
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.PayrollTotalDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareCandidate;
 import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.enums.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    String DTO_PROJECTION = "select new com.learning.employee_management.employeeDTO.EmployeeDTO("
+            + "e.id, e.name, e.lastName, e.CPF, e.salary, e.profitShare, e.maxProfitShare, "
+            + "e.admissionDate, e.dismissalDate, e.role, e.version) from Employee e";
 
     Optional<Employee> findByCPF(String cpf);
 
+    @Query("select new com.learning.employee_management.employeeDTO.PayrollTotalDTO("
+            + "count(e), coalesce(sum(e.salary), 0), coalesce(sum(e.profitShare), 0)) "
+            + "from Employee e where e.dismissalDate is null")
+    PayrollTotalDTO sumActivePayroll();
+
     Optional<Employee> findById(Long id);
 
+    @Query(DTO_PROJECTION)
+    List<EmployeeDTO> findAllDTOs();
+
+    @Query(DTO_PROJECTION + " where e.dismissalDate is null")
+    List<EmployeeDTO> findActiveDTOs(Pageable pageable);
+
+    @Query("select new com.learning.employee_management.employeeDTO.ProfitShareCandidate("
+            + "e.id, e.salary, e.profitShare, e.maxProfitShare, e.admissionDate, e.role) "
+            + "from Employee e where e.dismissalDate is null")
+    List<ProfitShareCandidate> findProfitShareCandidates();
+
+    @Query(DTO_PROJECTION + " where e.role = :role and e.dismissalDate is null")
+    List<EmployeeDTO> findActiveDTOsByRole(@Param("role") Role role);
+
+    @Query(DTO_PROJECTION + " where e.admissionDate between :from and :to")
+    List<EmployeeDTO> findDTOsAdmittedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(DTO_PROJECTION + " where e.CPF = :cpf")
+    Optional<EmployeeDTO> findDTOByCPF(@Param("cpf") String cpf);
+
+    @Query(DTO_PROJECTION + " where e.CPF in :cpfs")
+    List<EmployeeDTO> findDTOsByCPFIn(@Param("cpfs") Collection<String> cpfs);
+
+    @Query(DTO_PROJECTION + " where e.id in :ids")
+    List<EmployeeDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
 
 }
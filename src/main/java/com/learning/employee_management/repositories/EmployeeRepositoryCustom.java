@@ -0,0 +1,12 @@
+package com.learning.employee_management.repositories;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+
+import java.util.List;
+
+public interface EmployeeRepositoryCustom {
+
+    List<EmployeeDTO> search(EmployeeFilter filter);
+
+}
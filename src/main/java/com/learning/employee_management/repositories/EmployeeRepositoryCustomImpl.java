@@ -0,0 +1,116 @@
+package com.learning.employee_management.repositories;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.money.Money;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the list query from the filter with the Criteria API. Every value is bound as a
+ * parameter (see {@code hibernate.criteria.literal_handling_mode}), so each combination of
+ * filters renders the same query text and reuses Hibernate's cached query plan.
+ * Pagination is keyset based: {@code afterValue} and {@code afterId} are the sort value and id
+ * of the last row of the previous page, and the next page starts after that (sort field, id)
+ * position. The position travels in the request rather than being read back from the anchor
+ * row, so a page stays put when that row has since been deleted or changed.
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<EmployeeDTO> search(EmployeeFilter filter) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDTO> query = builder.createQuery(EmployeeDTO.class);
+        Root<Employee> employee = query.from(Employee.class);
+        query.select(builder.construct(EmployeeDTO.class,
+                employee.get(ID), employee.get("name"), employee.get("lastName"), employee.get("CPF"),
+                employee.get("salary"), employee.get("profitShare"), employee.get("maxProfitShare"),
+                employee.get("admissionDate"), employee.get("dismissalDate"), employee.get("role"),
+                employee.get("version")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getRole() != null) {
+            predicates.add(builder.equal(employee.get("role"), filter.getRole()));
+        }
+        if (filter.getActive() != null) {
+            predicates.add(filter.getActive()
+                    ? builder.isNull(employee.get("dismissalDate"))
+                    : builder.isNotNull(employee.get("dismissalDate")));
+        }
+        if (filter.getMinSalary() != null) {
+            predicates.add(builder.ge(employee.<Long>get("salary"), cents(filter.getMinSalary())));
+        }
+        if (filter.getMaxSalary() != null) {
+            predicates.add(builder.le(employee.<Long>get("salary"), cents(filter.getMaxSalary())));
+        }
+        if (filter.getAdmittedFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(employee.<LocalDate>get("admissionDate"), filter.getAdmittedFrom()));
+        }
+        if (filter.getAdmittedTo() != null) {
+            predicates.add(builder.lessThanOrEqualTo(employee.<LocalDate>get("admissionDate"), filter.getAdmittedTo()));
+        }
+
+        String sortField = filter.getSort() != null ? filter.getSort() : ID;
+        boolean descending = filter.getDirection() != null && Sort.Direction.fromString(filter.getDirection()).isDescending();
+        Path sortPath = employee.get(sortField);
+        Path idPath = employee.get(ID);
+
+        if (filter.getAfterId() != null) {
+            if (ID.equals(sortField)) {
+                predicates.add(descending
+                        ? builder.lessThan(idPath, filter.getAfterId())
+                        : builder.greaterThan(idPath, filter.getAfterId()));
+            } else {
+                Comparable afterValue = filter.afterSortValue();
+                Predicate afterSortValue = descending
+                        ? builder.lessThan(sortPath, afterValue)
+                        : builder.greaterThan(sortPath, afterValue);
+                Predicate sameSortValueAfterId = builder.and(builder.equal(sortPath, afterValue), descending
+                        ? builder.lessThan(idPath, filter.getAfterId())
+                        : builder.greaterThan(idPath, filter.getAfterId()));
+                predicates.add(builder.or(afterSortValue, sameSortValueAfterId));
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+        orders.add(descending ? builder.desc(sortPath) : builder.asc(sortPath));
+        if (!ID.equals(sortField)) {
+            orders.add(descending ? builder.desc(idPath) : builder.asc(idPath));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(orders);
+
+        TypedQuery<EmployeeDTO> typedQuery = entityManager.createQuery(query);
+        if (filter.getSize() != null) {
+            typedQuery.setMaxResults(filter.getSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static long cents(BigDecimal amount) {
+        return Money.toCents(amount.setScale(Money.SCALE, RoundingMode.HALF_UP));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.learning.employee_management.repositories;
+
+import com.learning.employee_management.entity.ScheduledEmployeeEvent;
+import com.learning.employee_management.enums.ScheduledEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduledEmployeeEventRepository extends JpaRepository<ScheduledEmployeeEvent, Long> {
+
+    @Query("select e.id from ScheduledEmployeeEvent e "
+            + "where e.status = com.learning.employee_management.enums.ScheduledEventStatus.PENDING "
+            + "and e.effectiveDate <= :today order by e.effectiveDate, e.id")
+    List<Long> findDueIds(@Param("today") LocalDate today, Pageable pageable);
+
+    List<ScheduledEmployeeEvent> findByEmployeeIdOrderByEffectiveDateAscIdAsc(Long employeeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ScheduledEmployeeEvent e set e.status = :to, e.processedAt = :processedAt, e.failureReason = :failureReason "
+            + "where e.id = :id and e.status = :from")
+    int transition(@Param("id") Long id, @Param("from") ScheduledEventStatus from, @Param("to") ScheduledEventStatus to,
+                   @Param("processedAt") LocalDateTime processedAt, @Param("failureReason") String failureReason);
+
+}
@@ -0,0 +1,53 @@
+package com.learning.employee_management.services;
+
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.exception.ProfitShareExceedsMaxException;
+import com.learning.employee_management.exception.SalaryIncompatibleWithRoleException;
+
+/**
+ * Domain rules that need no database access, shared by {@link EmployeeService} and the bulk import.
+ */
+public final class EmployeeRules {
+
+    private static final long OWNER_MIN_SALARY = 35000_00;
+    private static final long DIRECTOR_MIN_SALARY = 30000_00;
+    private static final long MANAGER_MIN_SALARY = 10000_00;
+    private static final long SPECIALIST_MIN_SALARY = 8000_00;
+    private static final long TECHNICIAN_MIN_SALARY = 5000_00;
+
+    private EmployeeRules() {
+    }
+
+    public static long minSalary(Role role) {
+
+        switch (role) {
+            case OWNER:
+                return OWNER_MIN_SALARY;
+            case DIRECTOR:
+                return DIRECTOR_MIN_SALARY;
+            case MANAGER:
+                return MANAGER_MIN_SALARY;
+            case SPECIALIST:
+                return SPECIALIST_MIN_SALARY;
+            case TECHNICIAN:
+            default:
+                return TECHNICIAN_MIN_SALARY;
+        }
+    }
+
+    public static void verifyRole(long salary, Role role) throws SalaryIncompatibleWithRoleException {
+
+        long minSalary = minSalary(role);
+        if (salary < minSalary) {
+            throw new SalaryIncompatibleWithRoleException(role, minSalary);
+        }
+    }
+
+    public static void verifyProfitShare(long profitShare, long maxProfitShare) throws ProfitShareExceedsMaxException {
+
+        if (profitShare >= maxProfitShare) {
+            throw new ProfitShareExceedsMaxException(maxProfitShare);
+        }
+    }
+
+}
@@ -1,106 +1,249 @@
 package com.learning.employee_management.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.employee_management.cache.EmployeeCache;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupDTO;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupResultDTO;
 import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+import com.learning.employee_management.employeeDTO.PayrollTotalDTO;
 import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.events.EmployeeChangedEvent;
 import com.learning.employee_management.enums.Role;
 import com.learning.employee_management.exception.*;
 import com.learning.employee_management.mapper.EmployeeMapper;
 import com.learning.employee_management.repositories.EmployeeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Transactional(rollbackFor = Exception.class)
 public class EmployeeService {
 
-    private final double OWNER_MIN_SALARY = 35000;
-    private final double DIRECTOR_MIN_SALARY = 30000;
-    private final double MANAGER_MIN_SALARY = 10000;
-    private final double SPECIALIST_MIN_SALARY = 8000;
-    private final double TECHNICIAN_MIN_SALARY = 5000;
+    private static final int BATCH_LOOKUP_CHUNK_SIZE = 1000;
     @Autowired
     private EmployeeRepository repository;
 
-    public List<EmployeeDTO> findAll() {
+    @Autowired
+    private EmployeeCache cache;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
-        List<Employee> allEmployees = repository.findAll();
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> findAll() {
 
-        return allEmployees.stream().map(EmployeeMapper.INSTANCE::toDTO).collect(Collectors.toList());
+        return repository.findAllDTOs();
 
     }
 
 
     @ResponseStatus(HttpStatus.CREATED)
-    public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException {
+    public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException, InvalidCpfException {
 
 
+        employeeDTO.setCPF(verifyCpf(employeeDTO.getCPF()));
         verifyIfAlreadyExists(employeeDTO.getCPF());
         Employee employee = EmployeeMapper.INSTANCE.toModel(employeeDTO);
         verifyRole(employee, employee.getRole());
         verifyRaiseProfitShare(employee.getProfitShare(), employee.getMaxProfitShare());
         Employee savedEmployee = repository.save(employee);
+        EmployeeDTO savedEmployeeDTO = EmployeeMapper.INSTANCE.toDTO(savedEmployee);
+        publisher.publishEvent(EmployeeChangedEvent.changed(savedEmployeeDTO));
+
+        return savedEmployeeDTO;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> search(EmployeeFilter filter) throws InvalidSortException {
+
+        verifySort(filter);
+        return repository.search(filter);
+
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollTotalDTO activePayrollTotal() {
+
+        return repository.sumActivePayroll();
+
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> findActiveByRole(Role role) {
+
+        return repository.findActiveDTOsByRole(role);
 
-        return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
     }
 
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> findAdmittedBetween(LocalDate from, LocalDate to) {
+
+        return repository.findDTOsAdmittedBetween(from, to);
+
+    }
+
+    @Transactional(readOnly = true)
     public EmployeeDTO findByCPF(String cpf) throws EmployeeNotFoundException {
-        Employee foundEmployee = repository.findByCPF(cpf).orElseThrow(() -> new EmployeeNotFoundException(cpf));
-        return EmployeeMapper.INSTANCE.toDTO(foundEmployee);
 
+        long key = Cpf.parse(cpf);
+        if (key == Cpf.INVALID) {
+            throw new EmployeeNotFoundException(cpf);
+        }
+        EmployeeDTO cachedEmployee = cache.get(key);
+        if (cachedEmployee != null) {
+            return cachedEmployee;
+        }
+
+        EmployeeDTO foundEmployee = repository.findDTOByCPF(Cpf.format(key)).orElseThrow(() -> new EmployeeNotFoundException(cpf));
+        cache.put(foundEmployee);
+        return foundEmployee;
+
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] findJsonByCPF(String cpf) throws EmployeeNotFoundException {
+
+        long key = Cpf.parse(cpf);
+        byte[] cachedJson = key == Cpf.INVALID ? null : cache.getJson(key);
+        if (cachedJson != null) {
+            return cachedJson;
+        }
+
+        EmployeeDTO employee = findByCPF(cpf);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(employee);
+            cache.putJson(employee, json);
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee " + employee.getId(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeBatchLookupResultDTO findBatch(EmployeeBatchLookupDTO lookup) {
+
+        EmployeeBatchLookupResultDTO result = new EmployeeBatchLookupResultDTO();
+
+        List<String> cpfs = new ArrayList<>();
+        for (String cpf : distinct(lookup.getCpfs())) {
+            long key = Cpf.parse(cpf);
+            if (key == Cpf.INVALID) {
+                result.getMissingCPFs().add(cpf);
+            } else {
+                cpfs.add(Cpf.format(key));
+            }
+        }
+        List<String> notCachedCpfs = new ArrayList<>();
+        for (String cpf : distinct(cpfs)) {
+            EmployeeDTO cachedEmployee = cache.get(Cpf.parse(cpf));
+            if (cachedEmployee != null) {
+                result.getFoundByCPF().put(cpf, cachedEmployee);
+            } else {
+                notCachedCpfs.add(cpf);
+            }
+        }
+        for (List<String> chunk : chunks(notCachedCpfs)) {
+            for (EmployeeDTO employeeDTO : repository.findDTOsByCPFIn(chunk)) {
+                result.getFoundByCPF().put(employeeDTO.getCPF(), employeeDTO);
+                cache.put(employeeDTO);
+            }
+        }
+        for (String cpf : notCachedCpfs) {
+            if (!result.getFoundByCPF().containsKey(cpf)) {
+                result.getMissingCPFs().add(cpf);
+            }
+        }
+
+        List<Long> ids = distinct(lookup.getIds());
+        for (List<Long> chunk : chunks(ids)) {
+            for (EmployeeDTO employeeDTO : repository.findDTOsByIdIn(chunk)) {
+                result.getFoundById().put(employeeDTO.getId(), employeeDTO);
+            }
+        }
+        for (Long id : ids) {
+            if (!result.getFoundById().containsKey(id)) {
+                result.getMissingIds().add(id);
+            }
+        }
+
+        return result;
     }
 
     public EmployeeDTO fireEmployee(Long id) throws EmployeeNotFoundException {
 
+        return fireEmployee(id, LocalDate.now());
+    }
+
+    public EmployeeDTO fireEmployee(Long id, LocalDate dismissalDate) throws EmployeeNotFoundException {
+
         Employee employee = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        employee.setDismissalDate(LocalDate.now());
+        employee.setDismissalDate(dismissalDate);
         Employee savedEmployee = repository.save(employee);
+        changed(employee);
 
         return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
     }
 
     public void deleteEmployee(Long id) throws EmployeeNotFoundException {
 
-        verifyIfExists(id);
+        Employee employee = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
         repository.deleteById(id);
+        cache.evict(Cpf.parse(employee.getCPF()));
+        publisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeMapper.INSTANCE.toDTO(employee)));
 
     }
 
-    public EmployeeDTO raiseSalary(Long id, double value) throws EmployeeNotFoundException {
+    public EmployeeDTO raiseSalary(Long id, long value) throws EmployeeNotFoundException {
 
         Employee employee = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        double newSalary = employee.getSalary() + value;
+        long newSalary = employee.getSalary() + value;
 
         employee.setSalary(newSalary);
         Employee savedEmployee = repository.save(employee);
+        changed(employee);
 
         return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
     }
 
-    public EmployeeDTO raiseProfitShare(Long id, double value) throws ProfitShareExceedsMaxException, EmployeeNotFoundException {
+    public EmployeeDTO raiseProfitShare(Long id, long value) throws ProfitShareExceedsMaxException, EmployeeNotFoundException {
 
         Employee employee = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        double newProfitShare = employee.getProfitShare() + value;
+        long newProfitShare = employee.getProfitShare() + value;
         verifyRaiseProfitShare(newProfitShare, employee.getMaxProfitShare());
         employee.setProfitShare(newProfitShare);
         Employee savedEmployee = repository.save(employee);
+        changed(employee);
         return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
 
 
     }
 
 
-    public EmployeeDTO lowerProfitShare(Long id, double value) throws EmployeeNotFoundException, ProfitShareLesserThanZeroException {
+    public EmployeeDTO lowerProfitShare(Long id, long value) throws EmployeeNotFoundException, ProfitShareLesserThanZeroException {
 
         Employee employee = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        double newProfitShare = employee.getProfitShare() - value;
+        long newProfitShare = employee.getProfitShare() - value;
         verifyLowerProfitShare(newProfitShare);
         employee.setProfitShare(newProfitShare);
         Employee savedEmployee = repository.save(employee);
+        changed(employee);
         return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
 
 
@@ -113,6 +256,7 @@ public class EmployeeService {
         verifyRole(employee, newRole);
         employee.setRole(newRole);
         Employee savedEmployee = repository.save(employee);
+        changed(employee);
 
         return EmployeeMapper.INSTANCE.toDTO(savedEmployee);
     }
@@ -125,6 +269,15 @@ public class EmployeeService {
     }
 
 
+    public String verifyCpf(String cpf) throws InvalidCpfException {
+
+        long key = Cpf.parse(cpf);
+        if (!Cpf.isValid(key)) {
+            throw new InvalidCpfException(cpf);
+        }
+        return Cpf.format(key);
+    }
+
     public void verifyIfAlreadyExists(String cpf) throws EmployeeAlreadyExistsException {
 
         if (repository.findByCPF(cpf).isPresent()) {
@@ -133,57 +286,63 @@ public class EmployeeService {
         }
     }
 
+    public void verifySort(EmployeeFilter filter) throws InvalidSortException {
+
+        if (filter.getSort() != null && !EmployeeFilter.SORTABLE_FIELDS.contains(filter.getSort())) {
+            throw new InvalidSortException(filter.getSort());
+        }
+        if (filter.getDirection() != null) {
+            try {
+                Sort.Direction.fromString(filter.getDirection());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSortException(filter.getDirection());
+            }
+        }
+        if (filter.getAfterId() != null && filter.getSort() != null && !"id".equals(filter.getSort())) {
+            try {
+                filter.afterSortValue();
+            } catch (IllegalArgumentException | ArithmeticException | DateTimeParseException e) {
+                throw new InvalidSortException(filter.getSort(), filter.getAfterValue());
+            }
+        }
+    }
+
     public void verifyRole(Employee employee, Role Role) throws SalaryIncompatibleWithRoleException {
 
-        double salary = employee.getSalary();
-        switch (Role) {
+        EmployeeRules.verifyRole(employee.getSalary(), Role);
+    }
 
-            case OWNER: {
-                if (salary < OWNER_MIN_SALARY) {
-                    throw new SalaryIncompatibleWithRoleException(Role, OWNER_MIN_SALARY);
-                }
-                break;
-            }
+    public void verifyRaiseProfitShare(long profitShare, long maxProfitShare) throws ProfitShareExceedsMaxException {
 
-            case DIRECTOR: {
-                if (salary < DIRECTOR_MIN_SALARY) {
-                    throw new SalaryIncompatibleWithRoleException(Role, DIRECTOR_MIN_SALARY);
-                }
-                break;
-            }
+        EmployeeRules.verifyProfitShare(profitShare, maxProfitShare);
+    }
 
-            case MANAGER: {
-                if (salary < MANAGER_MIN_SALARY) {
-                    throw new SalaryIncompatibleWithRoleException(Role, MANAGER_MIN_SALARY);
-                }
-                break;
-            }
-            case SPECIALIST: {
-                if (salary < SPECIALIST_MIN_SALARY) {
-                    throw new SalaryIncompatibleWithRoleException(Role, SPECIALIST_MIN_SALARY);
-                }
-                break;
-            }
-            case TECHNICIAN: {
-                if (salary < TECHNICIAN_MIN_SALARY) {
-                    throw new SalaryIncompatibleWithRoleException(Role, TECHNICIAN_MIN_SALARY);
-                }
-                break;
-            }
+    private void changed(Employee employee) {
 
-        }
+        // flushing bumps the row version, which the change event carries to the caches
+        repository.flush();
+        cache.evict(Cpf.parse(employee.getCPF()));
+        publisher.publishEvent(EmployeeChangedEvent.changed(EmployeeMapper.INSTANCE.toDTO(employee)));
     }
 
-    public void verifyRaiseProfitShare(double profitShare, double maxProfitShare) throws ProfitShareExceedsMaxException {
+    private static <T> List<T> distinct(List<T> keys) {
 
-        if (profitShare >= maxProfitShare) {
+        if (keys == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(keys));
+    }
 
-            throw new ProfitShareExceedsMaxException(maxProfitShare);
+    private static <T> List<List<T>> chunks(List<T> keys) {
 
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += BATCH_LOOKUP_CHUNK_SIZE) {
+            chunks.add(keys.subList(from, Math.min(from + BATCH_LOOKUP_CHUNK_SIZE, keys.size())));
         }
+        return chunks;
     }
 
-    public void verifyLowerProfitShare(double profitShare) throws ProfitShareLesserThanZeroException {
+    public void verifyLowerProfitShare(long profitShare) throws ProfitShareLesserThanZeroException {
 
         if (profitShare < 0) {
 
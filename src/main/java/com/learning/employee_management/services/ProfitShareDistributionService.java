@@ -0,0 +1,216 @@
+package com.learning.employee_management.services;
+
+import com.learning.employee_management.cache.EmployeeCache;
+import com.learning.employee_management.employeeDTO.ProfitShareAllocationDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareCandidate;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionResultDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits a profit-share pool across active employees by weight. Each employee is capped so that
+ * the new profit share stays below {@code maxProfitShare}, and whatever a capped employee cannot
+ * take is redistributed among the others. The totals in the result count only the rows the
+ * update actually changed: an employee dismissed or raised between the read and the write is
+ * skipped, and its share is reported as {@code undistributed} along with anything no cap had
+ * room for.
+ */
+@Service
+@Transactional(rollbackFor = Exception.class)
+public class ProfitShareDistributionService {
+
+    private static final String APPLY_ALLOCATION = "UPDATE employee SET profit_share_cents = profit_share_cents + ?, version = version + 1 "
+            + "WHERE id = ? AND dismissal_date IS NULL AND profit_share_cents + ? < max_profit_share_cents";
+    private static final int APPLY_BATCH_SIZE = 1000;
+    private static final Map<Role, Double> DEFAULT_ROLE_WEIGHTS = new EnumMap<>(Role.class);
+
+    static {
+        DEFAULT_ROLE_WEIGHTS.put(Role.OWNER, 5.0);
+        DEFAULT_ROLE_WEIGHTS.put(Role.DIRECTOR, 4.0);
+        DEFAULT_ROLE_WEIGHTS.put(Role.MANAGER, 3.0);
+        DEFAULT_ROLE_WEIGHTS.put(Role.SPECIALIST, 2.0);
+        DEFAULT_ROLE_WEIGHTS.put(Role.TECHNICIAN, 1.0);
+    }
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeCache cache;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    public ProfitShareDistributionResultDTO distribute(ProfitShareDistributionDTO distribution) {
+
+        List<ProfitShareCandidate> candidates = repository.findProfitShareCandidates();
+        int size = candidates.size();
+        double[] weights = new double[size];
+        long[] caps = new long[size];
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < size; i++) {
+            ProfitShareCandidate candidate = candidates.get(i);
+            weights[i] = weight(distribution, candidate, today);
+            caps[i] = Math.max(0, candidate.getMaxProfitShare() - candidate.getProfitShare() - 1);
+        }
+
+        long[] allocations = allocate(distribution.getPool(), weights, caps);
+
+        ProfitShareDistributionResultDTO result = new ProfitShareDistributionResultDTO();
+        result.setPool(distribution.getPool());
+        result.setEmployees(size);
+        result.setDryRun(distribution.isDryRun());
+        List<Integer> planned = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (allocations[i] != 0) {
+                planned.add(i);
+            }
+        }
+        boolean[] applied = distribution.isDryRun() ? null : apply(planned, candidates, allocations);
+
+        for (int k = 0; k < planned.size(); k++) {
+            if (applied != null && !applied[k]) {
+                continue;
+            }
+            int i = planned.get(k);
+            boolean capped = allocations[i] == caps[i];
+            result.setDistributed(result.getDistributed() + allocations[i]);
+            if (capped) {
+                result.setCappedEmployees(result.getCappedEmployees() + 1);
+            }
+            if (distribution.isDryRun()) {
+                result.getAllocations().add(new ProfitShareAllocationDTO(candidates.get(i).getId(), allocations[i], capped));
+            } else {
+                result.setAppliedEmployees(result.getAppliedEmployees() + 1);
+            }
+        }
+        result.setUndistributed(distribution.getPool() - result.getDistributed());
+
+        if (!distribution.isDryRun()) {
+            cache.clear();
+            publisher.publishEvent(EmployeeChangedEvent.bulk());
+        }
+        return result;
+    }
+
+    /**
+     * Water-filling allocation in whole cents. Employees are visited in ascending order of
+     * cap per unit of weight: while an employee's proportional share of what is left reaches
+     * its cap it is capped and removed from the pool, and once one is not, no later one is
+     * either, so the rest receive their proportional share with the leftover cents handed out
+     * by largest remainder.
+     */
+    public static long[] allocate(long pool, double[] weights, long[] caps) {
+
+        int size = weights.length;
+        long[] allocations = new long[size];
+
+        Integer[] order = new Integer[size];
+        int eligible = 0;
+        double remainingWeight = 0;
+        for (int i = 0; i < size; i++) {
+            if (weights[i] > 0 && caps[i] > 0) {
+                order[eligible++] = i;
+                remainingWeight += weights[i];
+            }
+        }
+        Integer[] byCapPerWeight = Arrays.copyOf(order, eligible);
+        Arrays.sort(byCapPerWeight, (a, b) -> Double.compare(caps[a] / weights[a], caps[b] / weights[b]));
+
+        long remainingPool = pool;
+        int first = 0;
+        while (first < eligible) {
+            int i = byCapPerWeight[first];
+            if (remainingPool * (weights[i] / remainingWeight) < caps[i]) {
+                break;
+            }
+            allocations[i] = caps[i];
+            remainingPool -= caps[i];
+            remainingWeight -= weights[i];
+            first++;
+        }
+
+        if (first == eligible || remainingPool <= 0) {
+            return allocations;
+        }
+
+        long handedOut = 0;
+        double[] remainders = new double[size];
+        for (int k = first; k < eligible; k++) {
+            int i = byCapPerWeight[k];
+            double share = remainingPool * (weights[i] / remainingWeight);
+            allocations[i] = Math.min(caps[i], (long) share);
+            remainders[i] = share - allocations[i];
+            handedOut += allocations[i];
+        }
+
+        long leftover = remainingPool - handedOut;
+        if (leftover > 0) {
+            Integer[] uncapped = Arrays.copyOfRange(byCapPerWeight, first, eligible);
+            Arrays.sort(uncapped, (a, b) -> Double.compare(remainders[b], remainders[a]));
+            for (int k = 0; k < uncapped.length && leftover > 0; k++) {
+                int i = uncapped[k];
+                if (allocations[i] < caps[i]) {
+                    allocations[i]++;
+                    leftover--;
+                }
+            }
+        }
+        return allocations;
+    }
+
+    /**
+     * Runs the guarded update for each planned allocation and reports which rows it changed; a row
+     * dismissed or raised past its cap since the candidates were read is left untouched.
+     */
+    private boolean[] apply(List<Integer> planned, List<ProfitShareCandidate> candidates, long[] allocations) {
+
+        boolean[] applied = new boolean[planned.size()];
+        int k = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(APPLY_ALLOCATION, planned, APPLY_BATCH_SIZE,
+                (statement, i) -> {
+                    statement.setLong(1, allocations[i]);
+                    statement.setLong(2, candidates.get(i).getId());
+                    statement.setLong(3, allocations[i]);
+                })) {
+            for (int count : batch) {
+                applied[k++] = count > 0;
+            }
+        }
+        return applied;
+    }
+
+    private static double weight(ProfitShareDistributionDTO distribution, ProfitShareCandidate candidate, LocalDate today) {
+
+        switch (distribution.getWeighting()) {
+            case SALARY:
+                return candidate.getSalary();
+            case TENURE:
+                return Math.max(1, ChronoUnit.DAYS.between(candidate.getAdmissionDate(), today));
+            case ROLE:
+            default: {
+                Double weight = distribution.getRoleWeights() != null ? distribution.getRoleWeights().get(candidate.getRole()) : null;
+                return weight != null ? weight : DEFAULT_ROLE_WEIGHTS.get(candidate.getRole());
+            }
+        }
+    }
+
+}
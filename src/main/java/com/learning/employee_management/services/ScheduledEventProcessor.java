@@ -0,0 +1,92 @@
+package com.learning.employee_management.services;
+
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Applies due scheduled events in batches, one transaction per event so a failing event is
+ * marked {@code FAILED} without holding back the rest. Only pending rows with an effective date
+ * up to today are read, through the (status, effective_date) index. Runs once at startup to
+ * catch up on events that became due while the application was down. Each tenant's events are
+ * processed in turn.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "employee.schedule.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledEventProcessor implements ApplicationRunner {
+
+    @Autowired
+    private ScheduledEventService service;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Value("${employee.schedule.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        processDue();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.schedule.poll-interval-ms:60000}",
+            initialDelayString = "${employee.schedule.poll-interval-ms:60000}")
+    public synchronized int processDue() {
+
+        int applied = 0;
+        for (String tenant : tenantRegistry.getTenants()) {
+            try {
+                applied += TenantContext.callAs(tenant, this::processDueOfTenant);
+            } catch (Exception e) {
+                log.warn("Scheduled events of tenant {} could not be processed: {}", tenant, e.getMessage());
+            }
+        }
+        return applied;
+    }
+
+    private int processDueOfTenant() {
+
+        LocalDate today = LocalDate.now();
+        int applied = 0;
+        int failed = 0;
+        List<Long> due;
+        do {
+            due = service.findDue(today, batchSize);
+            int processed = 0;
+            for (Long eventId : due) {
+                try {
+                    if (service.apply(eventId)) {
+                        applied++;
+                    }
+                    processed++;
+                } catch (Exception e) {
+                    log.warn("Scheduled event {} failed: {}", eventId, e.getMessage());
+                    if (service.markFailed(eventId, e.getMessage())) {
+                        failed++;
+                        processed++;
+                    }
+                }
+            }
+            if (processed == 0) {
+                break;
+            }
+        } while (due.size() == batchSize);
+
+        if (applied > 0 || failed > 0) {
+            log.info("Applied {} scheduled events of tenant {}, {} failed", applied, TenantContext.get(), failed);
+        }
+        return applied;
+    }
+
+}
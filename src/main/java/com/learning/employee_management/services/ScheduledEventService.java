@@ -0,0 +1,122 @@
+package com.learning.employee_management.services;
+
+import com.learning.employee_management.employeeDTO.ScheduledEventDTO;
+import com.learning.employee_management.entity.ScheduledEmployeeEvent;
+import com.learning.employee_management.enums.ScheduledEventStatus;
+import com.learning.employee_management.exception.*;
+import com.learning.employee_management.repositories.ScheduledEmployeeEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(rollbackFor = Exception.class)
+public class ScheduledEventService {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 255;
+
+    @Autowired
+    private ScheduledEmployeeEventRepository repository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    public ScheduledEventDTO schedule(Long employeeId, ScheduledEventDTO scheduledEventDTO) throws EmployeeNotFoundException, InvalidScheduledEventException {
+
+        employeeService.verifyIfExists(employeeId);
+        verifyEvent(scheduledEventDTO);
+        ScheduledEmployeeEvent event = new ScheduledEmployeeEvent(null, employeeId, scheduledEventDTO.getType(),
+                scheduledEventDTO.getEffectiveDate(), scheduledEventDTO.getRole(), scheduledEventDTO.getAmount(),
+                ScheduledEventStatus.PENDING, LocalDateTime.now(), null, null);
+
+        return toDTO(repository.save(event));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduledEventDTO> findByEmployee(Long employeeId) {
+
+        return repository.findByEmployeeIdOrderByEffectiveDateAscIdAsc(employeeId).stream()
+                .map(ScheduledEventService::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    public void cancel(Long eventId) throws ScheduledEventNotFoundException {
+
+        if (repository.transition(eventId, ScheduledEventStatus.PENDING, ScheduledEventStatus.CANCELLED, LocalDateTime.now(), null) == 0) {
+            throw new ScheduledEventNotFoundException(eventId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDue(LocalDate today, int limit) {
+
+        return repository.findDueIds(today, PageRequest.of(0, limit));
+
+    }
+
+    /**
+     * Claims a due event and applies it in the same transaction. The claim only succeeds while
+     * the event is still pending, so an event is applied once even if two processors race or
+     * the same batch is replayed after a restart.
+     */
+    public boolean apply(Long eventId) throws EmployeeNotFoundException, SalaryIncompatibleWithRoleException {
+
+        if (repository.transition(eventId, ScheduledEventStatus.PENDING, ScheduledEventStatus.APPLIED, LocalDateTime.now(), null) == 0) {
+            return false;
+        }
+        ScheduledEmployeeEvent event = repository.findById(eventId).orElseThrow(IllegalStateException::new);
+        switch (event.getType()) {
+            case DISMISSAL:
+                employeeService.fireEmployee(event.getEmployeeId(), event.getEffectiveDate());
+                break;
+            case ROLE_CHANGE:
+                employeeService.changeRole(event.getEmployeeId(), event.getRole());
+                break;
+            case SALARY_RAISE:
+                employeeService.raiseSalary(event.getEmployeeId(), event.getAmount());
+                break;
+        }
+        return true;
+    }
+
+    public boolean markFailed(Long eventId, String reason) {
+
+        String failureReason = reason != null && reason.length() > MAX_FAILURE_REASON_LENGTH
+                ? reason.substring(0, MAX_FAILURE_REASON_LENGTH) : reason;
+        return repository.transition(eventId, ScheduledEventStatus.PENDING, ScheduledEventStatus.FAILED, LocalDateTime.now(), failureReason) == 1;
+    }
+
+    public void verifyEvent(ScheduledEventDTO scheduledEventDTO) throws InvalidScheduledEventException {
+
+        if (scheduledEventDTO.getEffectiveDate().isBefore(LocalDate.now())) {
+            throw new InvalidScheduledEventException("Effective date must not be in the past");
+        }
+        switch (scheduledEventDTO.getType()) {
+            case ROLE_CHANGE:
+                if (scheduledEventDTO.getRole() == null) {
+                    throw new InvalidScheduledEventException("A role change needs the new role");
+                }
+                break;
+            case SALARY_RAISE:
+                if (scheduledEventDTO.getAmount() == null || scheduledEventDTO.getAmount() <= 0) {
+                    throw new InvalidScheduledEventException("A salary raise needs a positive amount");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static ScheduledEventDTO toDTO(ScheduledEmployeeEvent event) {
+
+        return new ScheduledEventDTO(event.getId(), event.getEmployeeId(), event.getType(), event.getEffectiveDate(),
+                event.getRole(), event.getAmount(), event.getStatus(), event.getFailureReason());
+    }
+
+}
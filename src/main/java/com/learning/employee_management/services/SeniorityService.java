@@ -0,0 +1,340 @@
+package com.learning.employee_management.services;
+
+import com.learning.employee_management.employeeDTO.AnniversaryDTO;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.TenureDistributionDTO;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tenure queries over active employees, answered from an in-memory index instead of the roster:
+ * employees are bucketed by the month and day of their admission, and admission dates are counted
+ * in a sorted map. Each tenant has its own index, loaded at startup and kept up to date from
+ * {@link EmployeeChangedEvent}. Like {@code EmployeeIndex}, it ignores events older than the version
+ * it holds for an employee, and a bulk change reloads the tenant on a background thread.
+ * <p>
+ * Day-of-year to bucket lookups come from two calendars built once, one for leap and one for common
+ * years. In common years employees admitted on 29 February complete their year on 1 March, the same
+ * day {@code ChronoUnit.YEARS} counts it.
+ */
+@Slf4j
+@Service
+public class SeniorityService implements ApplicationRunner {
+
+    private static final int BUCKETS = 366;
+    private static final int FEBRUARY_29 = bucket(MonthDay.of(Month.FEBRUARY, 29));
+    private static final int[][] LEAP_YEAR_CALENDAR = calendar(true);
+    private static final int[][] COMMON_YEAR_CALENDAR = calendar(false);
+    private static final int MAX_MEMOIZED_DISTRIBUTIONS = 32;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Value("${employee.seniority.preload.enabled:true}")
+    private boolean preload = true;
+
+    private final Map<String, Roster> rosters = new ConcurrentHashMap<>();
+    private final Map<String, Future<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "seniority-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        if (!preload) {
+            return;
+        }
+        for (String tenant : tenantRegistry.getTenants()) {
+            TenantContext.runAs(tenant, () -> {
+                long start = System.nanoTime();
+                reload();
+                log.info("Indexed tenure of {} active employees of tenant {} in {} ms", size(), tenant,
+                        (System.nanoTime() - start) / 1_000_000);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    public List<AnniversaryDTO> anniversaries(LocalDate from, int days) {
+
+        Roster roster = roster();
+        List<AnniversaryDTO> anniversaries = new ArrayList<>();
+        roster.lock.readLock().lock();
+        try {
+            for (int i = 0; i < days; i++) {
+                LocalDate date = from.plusDays(i);
+                int[][] calendar = date.isLeapYear() ? LEAP_YEAR_CALENDAR : COMMON_YEAR_CALENDAR;
+                for (int bucket : calendar[date.getDayOfYear() - 1]) {
+                    for (EmployeeDTO employee : roster.byAnniversary.get(bucket).values()) {
+                        int years = date.getYear() - employee.getAdmissionDate().getYear();
+                        if (years > 0) {
+                            anniversaries.add(new AnniversaryDTO(employee.getId(), employee.getName(), employee.getLastName(),
+                                    employee.getCPF(), employee.getRole(), employee.getAdmissionDate(), date, years));
+                        }
+                    }
+                }
+            }
+        } finally {
+            roster.lock.readLock().unlock();
+        }
+        anniversaries.sort(Comparator.comparing(AnniversaryDTO::getAnniversaryDate).thenComparing(AnniversaryDTO::getId));
+        return anniversaries;
+    }
+
+    public TenureDistributionDTO distribution(LocalDate asOf) {
+
+        Roster roster = roster();
+        TenureDistributionDTO memoized = roster.distributions.get(asOf);
+        if (memoized != null) {
+            return memoized;
+        }
+        roster.lock.readLock().lock();
+        try {
+            // computed under the read lock so that a concurrent change clears it after it is stored
+            if (roster.distributions.size() >= MAX_MEMOIZED_DISTRIBUTIONS) {
+                roster.distributions.clear();
+            }
+            return roster.distributions.computeIfAbsent(asOf, roster::distribution);
+        } finally {
+            roster.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        Roster roster = roster();
+        roster.lock.readLock().lock();
+        try {
+            return roster.active.size();
+        } finally {
+            roster.lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+
+        if (event.isBulk()) {
+            reloadInBackground();
+            return;
+        }
+        Roster roster = roster();
+        roster.lock.writeLock().lock();
+        try {
+            roster.apply(event);
+        } finally {
+            roster.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the current tenant off the calling thread. Requests made while a reload is queued share
+     * it; changes applied while it reads the roster are replayed on top of what it read.
+     */
+    public Future<?> reloadInBackground() {
+
+        String tenant = TenantContext.get();
+        return pendingReloads.computeIfAbsent(tenant, key -> reloader.submit(() -> {
+            pendingReloads.remove(tenant);
+            try {
+                TenantContext.runAs(tenant, this::reload);
+            } catch (RuntimeException e) {
+                log.warn("Could not reload the tenure index of tenant {}", tenant, e);
+            }
+        }));
+    }
+
+    public void reload() {
+
+        Roster roster = roster();
+        synchronized (roster) {
+            roster.lock.writeLock().lock();
+            try {
+                roster.missed = new ArrayList<>();
+            } finally {
+                roster.lock.writeLock().unlock();
+            }
+            List<EmployeeDTO> employees;
+            try {
+                employees = repository.findAllDTOs();
+            } catch (RuntimeException e) {
+                roster.lock.writeLock().lock();
+                try {
+                    roster.missed = null;
+                } finally {
+                    roster.lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            roster.lock.writeLock().lock();
+            try {
+                List<EmployeeChangedEvent> missed = roster.missed;
+                roster.missed = null;
+                roster.byAnniversary.forEach(Map::clear);
+                roster.active.clear();
+                roster.admissions.clear();
+                roster.versions.clear();
+                roster.deleted.clear();
+                for (EmployeeDTO employee : employees) {
+                    roster.versions.put(employee.getId(), employee.getVersion());
+                    roster.add(employee);
+                }
+                missed.forEach(roster::apply);
+                roster.distributions.clear();
+            } finally {
+                roster.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private Roster roster() {
+
+        String tenant = TenantContext.get();
+        Roster roster = rosters.get(tenant);
+        return roster != null ? roster : rosters.computeIfAbsent(tenant, key -> new Roster());
+    }
+
+    private static int bucket(MonthDay monthDay) {
+        return monthDay.atYear(2000).getDayOfYear() - 1;
+    }
+
+    private static int[][] calendar(boolean leapYear) {
+
+        LocalDate day = LocalDate.of(leapYear ? 2000 : 2001, 1, 1);
+        int[][] calendar = new int[day.lengthOfYear()][];
+        for (int i = 0; i < calendar.length; i++, day = day.plusDays(1)) {
+            int bucket = bucket(MonthDay.from(day));
+            boolean march1 = day.getMonth() == Month.MARCH && day.getDayOfMonth() == 1;
+            calendar[i] = !leapYear && march1 ? new int[]{FEBRUARY_29, bucket} : new int[]{bucket};
+        }
+        return calendar;
+    }
+
+    private static final class Roster {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<Map<Long, EmployeeDTO>> byAnniversary = new ArrayList<>(BUCKETS);
+        private final Map<Long, EmployeeDTO> active = new HashMap<>();
+        private final NavigableMap<LocalDate, Integer> admissions = new TreeMap<>();
+        private final Map<LocalDate, TenureDistributionDTO> distributions = new ConcurrentHashMap<>();
+        // latest version seen of every employee, dismissed ones included, and of those deleted since the last reload
+        private final Map<Long, Long> versions = new HashMap<>();
+        private final Map<Long, Long> deleted = new HashMap<>();
+        // events applied while a reload reads the roster, replayed on top of what it read
+        private List<EmployeeChangedEvent> missed;
+
+        private Roster() {
+
+            for (int i = 0; i < BUCKETS; i++) {
+                byAnniversary.add(new HashMap<>());
+            }
+        }
+
+        private TenureDistributionDTO distribution(LocalDate asOf) {
+
+            List<TenureDistributionDTO.TenureBucket> buckets = new ArrayList<>();
+            long total = 0;
+            if (!admissions.isEmpty()) {
+                LocalDate first = admissions.firstKey();
+                LocalDate upper = asOf;
+                for (int years = 0; !upper.isBefore(first); years++) {
+                    LocalDate lower = asOf.minusYears(years + 1);
+                    long employees = 0;
+                    for (int count : admissions.subMap(lower, false, upper, true).values()) {
+                        employees += count;
+                    }
+                    buckets.add(new TenureDistributionDTO.TenureBucket(years, employees));
+                    total += employees;
+                    upper = lower;
+                }
+            }
+            return new TenureDistributionDTO(asOf, total, buckets);
+        }
+
+        private void apply(EmployeeChangedEvent event) {
+
+            if (missed != null) {
+                missed.add(event);
+            }
+            for (EmployeeDTO employee : event.getChanged()) {
+                Long deletedVersion = deleted.get(employee.getId());
+                Long version = versions.get(employee.getId());
+                if (deletedVersion != null && employee.getVersion() <= deletedVersion
+                        || version != null && employee.getVersion() < version) {
+                    continue;
+                }
+                versions.put(employee.getId(), employee.getVersion());
+                remove(employee.getId());
+                add(employee);
+            }
+            for (EmployeeDTO employee : event.getDeleted()) {
+                Long version = versions.get(employee.getId());
+                if (version != null && employee.getVersion() < version) {
+                    continue;
+                }
+                deleted.merge(employee.getId(), employee.getVersion(), Math::max);
+                remove(employee.getId());
+            }
+            distributions.clear();
+        }
+
+        private void add(EmployeeDTO employee) {
+
+            if (employee.getDismissalDate() != null || employee.getAdmissionDate() == null) {
+                return;
+            }
+            active.put(employee.getId(), employee);
+            byAnniversary.get(bucket(MonthDay.from(employee.getAdmissionDate()))).put(employee.getId(), employee);
+            admissions.merge(employee.getAdmissionDate(), 1, Integer::sum);
+        }
+
+        private void remove(Long id) {
+
+            EmployeeDTO previous = active.remove(id);
+            if (previous == null) {
+                return;
+            }
+            byAnniversary.get(bucket(MonthDay.from(previous.getAdmissionDate()))).remove(id);
+            admissions.computeIfPresent(previous.getAdmissionDate(), (date, count) -> count == 1 ? null : count - 1);
+        }
+
+    }
+
+}
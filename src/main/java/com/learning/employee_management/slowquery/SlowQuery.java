@@ -0,0 +1,48 @@
+package com.learning.employee_management.slowquery;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running statistics of one slow statement, keyed by its SQL. Only executions over the threshold
+ * are counted.
+ */
+@Getter
+public class SlowQuery {
+
+    private final String sql;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private String lastParameters;
+    private Instant lastSeen;
+    private String plan;
+
+    SlowQuery(String sql) {
+        this.sql = sql;
+    }
+
+    synchronized void add(long nanos, String parameters) {
+
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastParameters = parameters;
+        lastSeen = Instant.now();
+    }
+
+    synchronized void setPlan(String plan) {
+        this.plan = plan;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public synchronized double getAverageMillis() {
+        return count == 0 ? 0 : totalNanos / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.learning.employee_management.slowquery;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Times every statement executed through its connections and hands the ones slower than the
+ * threshold to {@link SlowQueryLog}, with the parameters bound to them. Connections and statements
+ * are wrapped in plain delegating classes, see {@link TimedConnection}.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource dataSource, SlowQueryLog slowQueryLog) {
+
+        super(dataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new TimedConnection(super.getConnection(), slowQueryLog);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new TimedConnection(super.getConnection(username, password), slowQueryLog);
+    }
+
+}
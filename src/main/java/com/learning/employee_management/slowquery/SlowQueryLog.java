@@ -0,0 +1,132 @@
+package com.learning.employee_management.slowquery;
+
+import com.learning.employee_management.cpf.Cpf;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Logs statements slower than {@code employee.slow-query.threshold-ms} with their bind parameters,
+ * CPFs masked, and keeps the slowest ones for the {@code slowqueries} actuator endpoint. The first
+ * slow execution of a query also captures its H2 {@code EXPLAIN} plan, on the same connection so
+ * it is planned against the same schema.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final int top;
+    private final int maxStatements;
+    private final Map<String, SlowQuery> queries = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(@Value("${employee.slow-query.threshold-ms:100}") long thresholdMillis,
+                        @Value("${employee.slow-query.top:20}") int top,
+                        @Value("${employee.slow-query.max-statements:500}") int maxStatements) {
+
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.top = top;
+        this.maxStatements = maxStatements;
+    }
+
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    public void record(Connection connection, String sql, Object[] parameters, long nanos) {
+
+        String masked = mask(parameters);
+        log.warn("Slow query ({} ms): {} {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql, masked);
+
+        SlowQuery query = queries.get(sql);
+        if (query == null) {
+            if (queries.size() >= maxStatements) {
+                evictFastest();
+            }
+            SlowQuery created = new SlowQuery(sql);
+            query = queries.putIfAbsent(sql, created);
+            if (query == null) {
+                query = created;
+                query.setPlan(explain(connection, sql, parameters));
+            }
+        }
+        query.add(nanos, masked);
+    }
+
+    public List<SlowQuery> top() {
+        return queries.values().stream()
+                .sorted(Comparator.comparingLong(SlowQuery::getMaxNanos).reversed())
+                .limit(top)
+                .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        queries.clear();
+    }
+
+    static String mask(Object[] parameters) {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < parameters.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            Object parameter = parameters[i];
+            if (isCpf(parameter)) {
+                builder.append(Cpf.mask(parameter instanceof String ? Cpf.parse((String) parameter)
+                        : ((Number) parameter).longValue()));
+            } else {
+                builder.append(parameter);
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    // invalid CPFs identify nobody, so only valid ones are masked
+    private static boolean isCpf(Object parameter) {
+
+        if (parameter instanceof Long || parameter instanceof Integer) {
+            return Cpf.isValid(((Number) parameter).longValue());
+        }
+        return parameter instanceof String && Cpf.isValid(Cpf.parse((String) parameter));
+    }
+
+    private static String explain(Connection connection, String sql, Object[] parameters) {
+
+        String statement = sql.trim().toLowerCase(Locale.ROOT);
+        if (!statement.startsWith("select") && !statement.startsWith("update") && !statement.startsWith("delete")) {
+            return null;
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                explain.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            log.debug("Could not explain {}", sql, e);
+            return null;
+        }
+    }
+
+    private void evictFastest() {
+
+        queries.values().stream()
+                .min(Comparator.comparingLong(SlowQuery::getMaxNanos))
+                .ifPresent(fastest -> queries.remove(fastest.getSql(), fastest));
+    }
+
+}
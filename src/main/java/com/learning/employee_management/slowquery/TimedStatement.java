@@ -0,0 +1,393 @@
+package com.learning.employee_management.slowquery;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * Statement that times its executions and reports the slow ones to {@link SlowQueryLog}. The fast
+ * path adds a {@code nanoTime} pair per execution.
+ */
+public class TimedStatement implements Statement {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Connection connection;
+    private final Connection target;
+    private final SlowQueryLog slowQueryLog;
+    private final Statement delegate;
+
+    /**
+     * @param connection the connection that created the statement, returned by {@link #getConnection()}
+     * @param target     the pooled connection underneath, where slow queries are explained
+     */
+    public TimedStatement(Connection connection, Connection target, SlowQueryLog slowQueryLog, Statement delegate) {
+
+        this.connection = connection;
+        this.target = target;
+        this.slowQueryLog = slowQueryLog;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        delegate.addBatch(sql);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        delegate.cancel();
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        delegate.clearBatch();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        delegate.clearWarnings();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        delegate.closeOnCompletion();
+    }
+
+    @Override
+    public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+        return delegate.enquoteIdentifier(identifier, alwaysQuote);
+    }
+
+    @Override
+    public String enquoteLiteral(String val) throws SQLException {
+        return delegate.enquoteLiteral(val);
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String val) throws SQLException {
+        return delegate.enquoteNCharLiteral(val);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+
+        long start = System.nanoTime();
+        boolean result = delegate.execute(sql);
+        timed(sql, start);
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+
+        long start = System.nanoTime();
+        boolean result = delegate.execute(sql, columnIndexes);
+        timed(sql, start);
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+
+        long start = System.nanoTime();
+        boolean result = delegate.execute(sql, columnNames);
+        timed(sql, start);
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+
+        long start = System.nanoTime();
+        boolean result = delegate.execute(sql, autoGeneratedKeys);
+        timed(sql, start);
+        return result;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+
+        long start = System.nanoTime();
+        int[] counts = delegate.executeBatch();
+        timed(batchSql(), start);
+        return counts;
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+
+        long start = System.nanoTime();
+        long[] counts = delegate.executeLargeBatch();
+        timed(batchSql(), start);
+        return counts;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+
+        long start = System.nanoTime();
+        long count = delegate.executeLargeUpdate(sql);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+
+        long start = System.nanoTime();
+        long count = delegate.executeLargeUpdate(sql, columnIndexes);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+
+        long start = System.nanoTime();
+        long count = delegate.executeLargeUpdate(sql, columnNames);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+
+        long start = System.nanoTime();
+        long count = delegate.executeLargeUpdate(sql, autoGeneratedKeys);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+
+        long start = System.nanoTime();
+        ResultSet resultSet = delegate.executeQuery(sql);
+        timed(sql, start);
+        return resultSet;
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+
+        long start = System.nanoTime();
+        int count = delegate.executeUpdate(sql);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+
+        long start = System.nanoTime();
+        int count = delegate.executeUpdate(sql, columnIndexes);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+
+        long start = System.nanoTime();
+        int count = delegate.executeUpdate(sql, columnNames);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+
+        long start = System.nanoTime();
+        int count = delegate.executeUpdate(sql, autoGeneratedKeys);
+        timed(sql, start);
+        return count;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection;
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return delegate.getFetchDirection();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return delegate.getFetchSize();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return delegate.getGeneratedKeys();
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return delegate.getLargeMaxRows();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return delegate.getLargeUpdateCount();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return delegate.getMaxFieldSize();
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return delegate.getMaxRows();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return delegate.getMoreResults();
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return delegate.getMoreResults(current);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return delegate.getQueryTimeout();
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return delegate.getResultSet();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return delegate.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return delegate.getResultSetHoldability();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return delegate.getResultSetType();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return delegate.getUpdateCount();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return delegate.getWarnings();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return delegate.isCloseOnCompletion();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return delegate.isPoolable();
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String identifier) throws SQLException {
+        return delegate.isSimpleIdentifier(identifier);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(delegate) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        delegate.setCursorName(name);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        delegate.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        delegate.setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        delegate.setFetchSize(rows);
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        delegate.setLargeMaxRows(max);
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        delegate.setMaxFieldSize(max);
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        delegate.setMaxRows(max);
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        delegate.setPoolable(poolable);
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        delegate.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(delegate) ? iface.cast(delegate) : delegate.unwrap(iface);
+    }
+
+    protected void timed(String sql, long start) {
+
+        long elapsed = System.nanoTime() - start;
+        if (sql != null && slowQueryLog.isSlow(elapsed)) {
+            slowQueryLog.record(target, sql, parameters(), elapsed);
+        }
+    }
+
+    protected Object[] parameters() {
+        return NO_PARAMETERS;
+    }
+
+    /**
+     * @return the statement run by {@link #executeBatch()}, unknown for batches of plain statements
+     */
+    protected String batchSql() {
+        return null;
+    }
+
+}
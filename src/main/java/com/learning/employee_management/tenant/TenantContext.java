@@ -0,0 +1,64 @@
+package com.learning.employee_management.tenant;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Tenant of the current thread. Set once per request by {@link TenantFilter}; background work
+ * that reads or writes tenant data runs inside {@link #runAs(String, Runnable)}. Threads with no
+ * tenant act for {@link #DEFAULT_TENANT}, whose roster lives in the default schema.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String get() {
+
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void runAs(String tenant, Runnable task) {
+
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static <T> T callAs(String tenant, Callable<T> task) throws Exception {
+
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(String previous) {
+
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.learning.employee_management.tenant;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Points every connection handed out at the schema of the current tenant. Pooled connections keep
+ * whatever schema the last borrower left, so with tenants configured the schema is set on every
+ * checkout, the default tenant's included; single-roster deployments skip it.
+ */
+public class TenantDataSource extends DelegatingDataSource {
+
+    private final TenantRegistry registry;
+
+    public TenantDataSource(DataSource dataSource, TenantRegistry registry) {
+
+        super(dataSource);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(super.getConnection(username, password));
+    }
+
+    private Connection route(Connection connection) throws SQLException {
+
+        if (registry.isMultiTenant()) {
+            try {
+                connection.setSchema(registry.schema(TenantContext.get()));
+            } catch (SQLException | RuntimeException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+}
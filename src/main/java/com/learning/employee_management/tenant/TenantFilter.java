@@ -0,0 +1,64 @@
+package com.learning.employee_management.tenant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Resolves the tenant of an API request from {@code X-Tenant-Id} against the {@link TenantRegistry},
+ * with no database access, and binds it to the request thread for the rest of the chain. Runs
+ * ahead of every other filter so idempotency, metrics and rate limits all see the tenant.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+    public static final String TENANT_ATTRIBUTE = TenantFilter.class.getName() + ".tenant";
+    private static final String API_PATH = "/api/";
+
+    @Autowired
+    private TenantRegistry registry;
+
+    @Value("${employee.tenant.required:false}")
+    private boolean required;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String tenant = request.getHeader(TENANT_HEADER);
+        if (tenant == null && !required) {
+            tenant = TenantContext.DEFAULT_TENANT;
+        }
+        if (tenant == null || !registry.isKnown(tenant)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                    tenant == null ? "Missing " + TENANT_HEADER : "Unknown tenant " + tenant);
+            return;
+        }
+
+        request.setAttribute(TENANT_ATTRIBUTE, tenant);
+        TenantContext.set(tenant);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+}
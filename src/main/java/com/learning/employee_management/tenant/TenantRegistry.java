@@ -0,0 +1,66 @@
+package com.learning.employee_management.tenant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Tenants served by this deployment, from {@code employee.tenants}, and the schema holding each
+ * roster. The default tenant uses the default schema, so a deployment without tenants behaves as
+ * a single-roster one.
+ */
+@Component
+public class TenantRegistry {
+
+    public static final String DEFAULT_SCHEMA = "PUBLIC";
+    public static final int MAX_TENANT_LENGTH = 30;
+
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9_]{1," + MAX_TENANT_LENGTH + "}");
+    private static final String SCHEMA_PREFIX = "TENANT_";
+
+    private final Map<String, String> schemas = new LinkedHashMap<>();
+
+    public TenantRegistry(@Value("${employee.tenants:}") List<String> tenants) {
+
+        schemas.put(TenantContext.DEFAULT_TENANT, DEFAULT_SCHEMA);
+        for (String tenant : tenants) {
+            String id = tenant.trim();
+            if (id.isEmpty()) {
+                continue;
+            }
+            if (!TENANT_ID.matcher(id).matches() || id.equals(TenantContext.DEFAULT_TENANT)) {
+                throw new IllegalArgumentException(String.format("Invalid tenant id '%s', expected %s", id, TENANT_ID));
+            }
+            schemas.put(id, SCHEMA_PREFIX + id.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public boolean isKnown(String tenant) {
+        return schemas.containsKey(tenant);
+    }
+
+    public boolean isMultiTenant() {
+        return schemas.size() > 1;
+    }
+
+    public List<String> getTenants() {
+        return Collections.unmodifiableList(new ArrayList<>(schemas.keySet()));
+    }
+
+    public String schema(String tenant) {
+
+        String schema = schemas.get(tenant);
+        if (schema == null) {
+            throw new IllegalStateException(String.format("Unknown tenant %s", tenant));
+        }
+        return schema;
+    }
+
+}
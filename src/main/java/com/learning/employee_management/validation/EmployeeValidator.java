@@ -0,0 +1,107 @@
+package com.learning.employee_management.validation;
+
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Hand-written equivalent of the bean validation constraints declared on {@link EmployeeDTO}: one
+ * pass over the fields, no reflection and no regex. Errors carry the same codes and default messages
+ * Hibernate Validator would report, so binding failures still answer 400 with the same field errors.
+ * {@code EmployeeValidatorTest} checks both stay in agreement.
+ */
+@Component
+public class EmployeeValidator implements Validator {
+
+    private static final String NOT_NULL = "NotNull";
+    private static final String SIZE = "Size";
+    private static final String PATTERN = "Pattern";
+    private static final String MIN = "Min";
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return EmployeeDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+
+        EmployeeDTO employee = (EmployeeDTO) target;
+        size(errors, "name", employee.getName(), EmployeeDTO.NAME_MIN_SIZE, EmployeeDTO.NAME_MAX_SIZE);
+        size(errors, "lastName", employee.getLastName(), EmployeeDTO.LAST_NAME_MIN_SIZE, EmployeeDTO.LAST_NAME_MAX_SIZE);
+        if (employee.getCPF() == null) {
+            notNull(errors, "CPF");
+        } else if (!matchesCpfPattern(employee.getCPF())) {
+            reject(errors, "CPF", PATTERN, "must match \"" + EmployeeDTO.CPF_PATTERN + "\"",
+                    new javax.validation.constraints.Pattern.Flag[0], EmployeeDTO.CPF_PATTERN);
+        }
+        if (employee.getSalary() < EmployeeDTO.MIN_SALARY) {
+            reject(errors, "salary", MIN, "must be greater than or equal to " + EmployeeDTO.MIN_SALARY,
+                    EmployeeDTO.MIN_SALARY);
+        }
+        if (employee.getAdmissionDate() == null) {
+            notNull(errors, "admissionDate");
+        }
+        if (employee.getRole() == null) {
+            notNull(errors, "role");
+        }
+    }
+
+    /**
+     * Same language as {@link EmployeeDTO#CPF_PATTERN}: {@code 000.000.000-00} with every separator optional.
+     */
+    static boolean matchesCpfPattern(String cpf) {
+
+        int length = cpf.length();
+        int i = digits(cpf, 0, 3);
+        for (int group = 0; group < 2 && i > 0; group++) {
+            if (i < length && cpf.charAt(i) == '.') {
+                i++;
+            }
+            i = digits(cpf, i, 3);
+        }
+        if (i > 0 && i < length && cpf.charAt(i) == '-') {
+            i++;
+        }
+        return i > 0 && digits(cpf, i, 2) == length;
+    }
+
+    private static int digits(String value, int from, int count) {
+
+        if (from < 0 || from + count > value.length()) {
+            return -1;
+        }
+        for (int i = from; i < from + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return from + count;
+    }
+
+    private static void size(Errors errors, String field, String value, int min, int max) {
+
+        if (value == null) {
+            notNull(errors, field);
+        } else if (value.length() < min || value.length() > max) {
+            reject(errors, field, SIZE, "size must be between " + min + " and " + max, max, min);
+        }
+    }
+
+    private static void notNull(Errors errors, String field) {
+        reject(errors, field, NOT_NULL, "must not be null");
+    }
+
+    private static void reject(Errors errors, String field, String code, String message, Object... attributes) {
+
+        Object[] arguments = new Object[attributes.length + 1];
+        arguments[0] = new DefaultMessageSourceResolvable(
+                new String[]{errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+        System.arraycopy(attributes, 0, arguments, 1, attributes.length);
+        errors.rejectValue(field, code, arguments, message);
+    }
+
+}
@@ -0,0 +1,14 @@
+CREATE TABLE employee (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    last_name        VARCHAR(255) NOT NULL,
+    cpf              VARCHAR(11)  NOT NULL,
+    salary           DOUBLE       NOT NULL,
+    profit_share     DOUBLE       NOT NULL,
+    max_profit_share DOUBLE       NOT NULL,
+    admission_date   DATE         NOT NULL,
+    dismissal_date   DATE,
+    role             INTEGER      NOT NULL
+);
+
+CREATE UNIQUE INDEX ux_employee_cpf ON employee (cpf);
@@ -0,0 +1,16 @@
+ALTER TABLE employee ADD COLUMN role_code CHAR(1);
+
+UPDATE employee SET role_code = CASE role
+    WHEN 0 THEN 'O'
+    WHEN 1 THEN 'D'
+    WHEN 2 THEN 'M'
+    WHEN 3 THEN 'S'
+    WHEN 4 THEN 'T'
+END;
+
+ALTER TABLE employee DROP COLUMN role;
+ALTER TABLE employee ALTER COLUMN role_code RENAME TO role;
+ALTER TABLE employee ALTER COLUMN role SET NOT NULL;
+
+CREATE INDEX ix_employee_role_dismissal ON employee (role, dismissal_date);
+CREATE INDEX ix_employee_admission ON employee (admission_date);
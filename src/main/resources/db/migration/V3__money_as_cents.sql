@@ -0,0 +1,16 @@
+ALTER TABLE employee ADD COLUMN salary_cents BIGINT;
+ALTER TABLE employee ADD COLUMN profit_share_cents BIGINT;
+ALTER TABLE employee ADD COLUMN max_profit_share_cents BIGINT;
+
+UPDATE employee SET
+    salary_cents = CAST(ROUND(salary * 100) AS BIGINT),
+    profit_share_cents = CAST(ROUND(profit_share * 100) AS BIGINT),
+    max_profit_share_cents = CAST(ROUND(max_profit_share * 100) AS BIGINT);
+
+ALTER TABLE employee ALTER COLUMN salary_cents SET NOT NULL;
+ALTER TABLE employee ALTER COLUMN profit_share_cents SET NOT NULL;
+ALTER TABLE employee ALTER COLUMN max_profit_share_cents SET NOT NULL;
+
+ALTER TABLE employee DROP COLUMN salary;
+ALTER TABLE employee DROP COLUMN profit_share;
+ALTER TABLE employee DROP COLUMN max_profit_share;
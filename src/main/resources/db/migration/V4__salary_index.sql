@@ -0,0 +1 @@
+CREATE INDEX ix_employee_salary ON employee (salary_cents);
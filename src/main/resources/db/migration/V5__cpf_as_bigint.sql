@@ -0,0 +1,11 @@
+ALTER TABLE employee ADD COLUMN cpf_key BIGINT;
+
+UPDATE employee SET cpf_key = CAST(REPLACE(REPLACE(cpf, '.', ''), '-', '') AS BIGINT);
+
+ALTER TABLE employee ALTER COLUMN cpf_key SET NOT NULL;
+
+DROP INDEX ux_employee_cpf;
+ALTER TABLE employee DROP COLUMN cpf;
+ALTER TABLE employee ALTER COLUMN cpf_key RENAME TO cpf;
+
+CREATE UNIQUE INDEX ux_employee_cpf ON employee (cpf);
@@ -0,0 +1 @@
+ALTER TABLE employee ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,16 @@
+CREATE TABLE scheduled_employee_event (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id    BIGINT       NOT NULL,
+    type           VARCHAR(16)  NOT NULL,
+    effective_date DATE         NOT NULL,
+    role           CHAR(1),
+    amount_cents   BIGINT,
+    status         VARCHAR(16)  NOT NULL,
+    created_at     TIMESTAMP    NOT NULL,
+    processed_at   TIMESTAMP,
+    failure_reason VARCHAR(255),
+    CONSTRAINT fk_scheduled_event_employee FOREIGN KEY (employee_id) REFERENCES employee (id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_scheduled_event_due ON scheduled_employee_event (status, effective_date);
+CREATE INDEX ix_scheduled_event_employee ON scheduled_employee_event (employee_id);
@@ -0,0 +1,109 @@
+package com.learning.employee_management.audit;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.ratelimit.RateLimitInterceptor;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.tenant.TenantFilter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditInterceptorTest {
+
+    @InjectMocks
+    private AuditInterceptor interceptor;
+
+    @Mock
+    private AuditLog auditLog;
+
+    private AuditEvent audit(MockHttpServletRequest request) {
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+        Mockito.verify(auditLog).record(event.capture());
+        return event.getValue();
+    }
+
+    @Test
+    void whenAnEmployeeIsLookedUpByCpfThenTheAuditedPathHasTheCpfMasked() {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee/356.421.456-90");
+
+        //when
+        AuditEvent event = audit(request);
+
+        //then
+        MatcherAssert.assertThat(event.getResource(), Matchers.is("/api/v1/employee/***.***.***-90"));
+
+    }
+
+    @Test
+    void whenTheCallerClaimsAClientIdThenTheRemoteAddressIsStillAudited() {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee/payroll/total");
+        request.setRemoteAddr("10.0.0.7");
+        request.addHeader(RateLimitInterceptor.CLIENT_ID_HEADER, "admin\tforged");
+
+        //when
+        AuditEvent event = audit(request);
+
+        //then
+        MatcherAssert.assertThat(event.getClientId(), Matchers.is("10.0.0.7"));
+        MatcherAssert.assertThat(event.getClaimedClientId(), Matchers.is("admin forged"));
+        MatcherAssert.assertThat(event.getResource(), Matchers.is("/api/v1/employee/payroll/total"));
+
+    }
+
+    @Test
+    void whenTheTenantThreadLocalIsAlreadyClearedThenTheTenantIsAuditedFromTheRequest() {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee/export");
+        request.setAttribute(TenantFilter.TENANT_ATTRIBUTE, "acme");
+        TenantContext.clear();
+
+        //when
+        AuditEvent event = audit(request);
+
+        //then
+        MatcherAssert.assertThat(event.getTenant(), Matchers.is("acme"));
+
+    }
+
+    @Test
+    void whenABatchLookupResolvesEmployeesThenEachOneIsAuditedWithItsCpfMasked() {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/employee/batchLookup");
+        AuditInterceptor.auditEmployees(request, Arrays.asList(
+                EmployeeDTOBuilder.builder().CPF("356.421.456-90").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("529.982.247-25").build().toEmployeeDTO()));
+
+        //when
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        //then
+        ArgumentCaptor<AuditEvent> events = ArgumentCaptor.forClass(AuditEvent.class);
+        Mockito.verify(auditLog, Mockito.times(2)).record(events.capture());
+        List<String> resources = events.getAllValues().stream().map(AuditEvent::getResource).collect(Collectors.toList());
+        MatcherAssert.assertThat(resources, Matchers.contains(
+                "/api/v1/employee/batchLookup/***.***.***-90", "/api/v1/employee/batchLookup/***.***.***-25"));
+
+    }
+
+}
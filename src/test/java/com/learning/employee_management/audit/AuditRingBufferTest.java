@@ -0,0 +1,110 @@
+package com.learning.employee_management.audit;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuditRingBufferTest {
+
+    private static AuditEvent event(int status) {
+        return new AuditEvent(0, "default", "client", null, "findByCPF", "GET", "/api/v1/employee/35642145685", status);
+    }
+
+    @Test
+    void whenTheBufferIsFullThenOfferIsRejected() {
+
+        //given
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(event(i));
+        }
+
+        //then
+        MatcherAssert.assertThat(buffer.offer(event(4)), Matchers.is(false));
+        MatcherAssert.assertThat(buffer.size(), Matchers.is(4));
+
+    }
+
+    @Test
+    void whenEventsAreDrainedThenTheyComeOutInOrderAndFreeTheirSlots() {
+
+        //given
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        List<AuditEvent> batch = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(event(i));
+        }
+
+        //when
+        int drained = buffer.drainTo(batch, 3);
+
+        //then
+        MatcherAssert.assertThat(drained, Matchers.is(3));
+        MatcherAssert.assertThat(batch.get(0).getStatus(), Matchers.is(0));
+        MatcherAssert.assertThat(batch.get(2).getStatus(), Matchers.is(2));
+        MatcherAssert.assertThat(buffer.offer(event(4)), Matchers.is(true));
+        MatcherAssert.assertThat(buffer.size(), Matchers.is(2));
+
+    }
+
+    @Test
+    void whenTheCapacityIsNotAPowerOfTwoThenAnExceptionIsThrown() {
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer(3));
+
+    }
+
+    @Test
+    void whenManyProducersOfferConcurrentlyThenEveryAcceptedEventIsDrainedOnce() throws Exception {
+
+        //given
+        AuditRingBuffer buffer = new AuditRingBuffer(1024);
+        int producers = 4;
+        int eventsPerProducer = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        //when
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.execute(() -> {
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    while (!buffer.offer(event(producer * eventsPerProducer + i))) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<AuditEvent> batch = new ArrayList<>();
+        while (seen.size() < producers * eventsPerProducer) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            batch.forEach(event -> seen.add(event.getStatus()));
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        MatcherAssert.assertThat(seen.size(), Matchers.is(producers * eventsPerProducer));
+        MatcherAssert.assertThat(buffer.size(), Matchers.is(0));
+
+    }
+
+}
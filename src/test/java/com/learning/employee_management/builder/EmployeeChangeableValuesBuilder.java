@@ -10,7 +10,7 @@ public class EmployeeChangeableValuesBuilder {
 
 
     @Builder.Default
-    private final double value = 100;
+    private final long value = 100_00;
 
     @Builder.Default
     private final Role role = Role.TECHNICIAN;
@@ -21,16 +21,16 @@ public class EmployeeDTOBuilder {
     private final String lastName = "pedro";
 
     @Builder.Default
-    private final String CPF = "35642145685";
+    private final String CPF = "35642145690";
 
     @Builder.Default
-    private final double salary = 30000;
+    private final long salary = 30000_00;
 
     @Builder.Default
-    private final double profitShare = 200;
+    private final long profitShare = 200_00;
 
     @Builder.Default
-    private final double maxProfitShare = 1000;
+    private final long maxProfitShare = 1000_00;
 
     @Builder.Default
     private final LocalDate admissionDate = LocalDate.of(2020, 2, 5);
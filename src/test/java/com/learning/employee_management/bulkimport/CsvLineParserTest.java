@@ -0,0 +1,20 @@
+package com.learning.employee_management.bulkimport;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+public class CsvLineParserTest {
+
+    @Test
+    void whenALineHasQuotedFieldsThenCommasAndEscapedQuotesStayInsideTheField() {
+
+        //when
+        String[] fields = CsvLineParser.parse("ana,\"Silva, Jr\",\"o \"\"chefe\"\"\",,5500.00");
+
+        //then
+        MatcherAssert.assertThat(fields, Matchers.arrayContaining("ana", "Silva, Jr", "o \"chefe\"", "", "5500.00"));
+
+    }
+
+}
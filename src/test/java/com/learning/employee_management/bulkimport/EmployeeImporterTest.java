@@ -0,0 +1,149 @@
+package com.learning.employee_management.bulkimport;
+
+import com.learning.employee_management.employeeDTO.ImportResultDTO;
+import com.learning.employee_management.exception.ImportInProgressException;
+import com.learning.employee_management.exception.ImportNotFoundException;
+import com.learning.employee_management.exception.InvalidImportException;
+import com.learning.employee_management.load.SyntheticEmployeeGenerator;
+import com.learning.employee_management.tenant.TenantContext;
+import com.learning.employee_management.validation.EmployeeValidator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+@JdbcTest(properties = {"employee.import.error-dir=build/import-errors", "employee.import.chunk-size=2"})
+@Import({EmployeeImporter.class, EmployeeValidator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmployeeImporterTest {
+
+    private static final String HEADER = "name,last_name,cpf,salary,profit_share,max_profit_share,admission_date,role\n";
+
+    @Autowired
+    private EmployeeImporter importer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employee");
+    }
+
+    @Test
+    void whenValidRowsAreImportedThenTheyAreInsertedWithTheirRoleCode() throws IOException, InvalidImportException, ImportInProgressException {
+
+        //given
+        String csv = HEADER
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(1) + ",30000.00,200.00,1000.00,05/02/2020,manager\n"
+                + "ana,\"Silva, Jr\"," + SyntheticEmployeeGenerator.cpf(2) + ",5500,0,500,2019-07-01,TECHNICIAN\n"
+                + "\n"
+                + "carla,souza," + SyntheticEmployeeGenerator.cpf(3) + ",9000.50,10,100,2021-01-10,SPECIALIST\n";
+
+        //when
+        ImportResultDTO result = importer.importCsv(stream(csv));
+
+        //then
+        MatcherAssert.assertThat(result.getRows(), Matchers.is(3L));
+        MatcherAssert.assertThat(result.getImported(), Matchers.is(3L));
+        MatcherAssert.assertThat(result.getRejected(), Matchers.is(0L));
+        MatcherAssert.assertThat(jdbcTemplate.queryForObject(
+                "SELECT role FROM employee WHERE last_name = 'Silva, Jr'", String.class), Matchers.is("T"));
+        MatcherAssert.assertThat(jdbcTemplate.queryForObject(
+                "SELECT salary_cents FROM employee WHERE name = 'carla'", Long.class), Matchers.is(900050L));
+
+    }
+
+    @Test
+    void whenRowsBreakTheEmployeeRulesThenTheyAreWrittenToTheErrorFile() throws Exception {
+
+        //given
+        String csv = HEADER
+                + "jo,pedro," + SyntheticEmployeeGenerator.cpf(1) + ",30000.00,200.00,1000.00,2020-02-05,MANAGER\n"
+                + "joao,pedro,35642145685,30000.00,200.00,1000.00,2020-02-05,MANAGER\n"
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(2) + ",9000.00,200.00,1000.00,2020-02-05,MANAGER\n"
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(3) + ",30000.00,1000.00,1000.00,2020-02-05,MANAGER\n"
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(4) + ",30000.00,200.00,1000.00,2020-02-05,INTERN\n"
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(5) + ",30000.00,200.00,1000.00,2020-02-05,MANAGER\n";
+
+        //when
+        ImportResultDTO result = importer.importCsv(stream(csv));
+
+        //then
+        List<String> errors = Files.readAllLines(importer.findErrors(result.getImportId()));
+        MatcherAssert.assertThat(result.getImported(), Matchers.is(1L));
+        MatcherAssert.assertThat(result.getRejected(), Matchers.is(5L));
+        MatcherAssert.assertThat(errors, Matchers.hasSize(6));
+        MatcherAssert.assertThat(errors, Matchers.hasItem(Matchers.startsWith("3,")));
+
+    }
+
+    @Test
+    void whenACpfAlreadyExistsOrRepeatsInTheFileThenItIsImportedOnce() throws IOException, InvalidImportException, ImportInProgressException {
+
+        //given
+        jdbcTemplate.update("INSERT INTO employee (name, last_name, cpf, salary_cents, profit_share_cents, max_profit_share_cents, "
+                + "admission_date, role) VALUES ('joao', 'pedro', ?, 3000000, 20000, 100000, DATE '2020-02-05', 'M')",
+                Long.parseLong(SyntheticEmployeeGenerator.cpf(1)));
+        String csv = HEADER
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(1) + ",30000.00,200.00,1000.00,2020-02-05,MANAGER\n"
+                + "ana,silva," + SyntheticEmployeeGenerator.cpf(2) + ",30000.00,200.00,1000.00,2020-02-05,MANAGER\n"
+                + "ana,silva," + SyntheticEmployeeGenerator.cpf(2) + ",30000.00,200.00,1000.00,2020-02-05,MANAGER\n";
+
+        //when
+        ImportResultDTO result = importer.importCsv(stream(csv));
+
+        //then
+        MatcherAssert.assertThat(result.getImported(), Matchers.is(1L));
+        MatcherAssert.assertThat(result.getRejected(), Matchers.is(2L));
+        MatcherAssert.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Long.class), Matchers.is(2L));
+
+    }
+
+    @Test
+    void whenAnotherTenantAsksForTheErrorsOfAnImportThenItIsNotFound() throws Exception {
+
+        //given
+        String csv = HEADER
+                + "joao,pedro," + SyntheticEmployeeGenerator.cpf(1) + ",9000.00,200.00,1000.00,2020-02-05,MANAGER\n";
+
+        //when
+        ImportResultDTO result = importer.importCsv(stream(csv));
+
+        //then
+        MatcherAssert.assertThat(Files.exists(importer.findErrors(result.getImportId())), Matchers.is(true));
+        Assertions.assertThrows(ImportNotFoundException.class,
+                () -> TenantContext.callAs("acme", () -> importer.findErrors(result.getImportId())));
+
+    }
+
+    @Test
+    void whenTheHeaderMissesAColumnThenAnExceptionIsThrown() {
+
+        //given
+        String csv = "name,last_name,cpf,salary\n";
+
+        //then
+        Assertions.assertThrows(InvalidImportException.class, () -> importer.importCsv(stream(csv)));
+
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
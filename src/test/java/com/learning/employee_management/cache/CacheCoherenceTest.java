@@ -0,0 +1,79 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.EmployeeManagementApplication;
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.services.EmployeeService;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs two application contexts on one shared database, connected by the loopback transport,
+ * the way two nodes behind a load balancer would be.
+ */
+public class CacheCoherenceTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    private static ConfigurableApplicationContext startNode() {
+
+        return new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:cachecoherence;DB_CLOSE_DELAY=-1",
+                        "spring.jmx.enabled=false",
+                        "employee.warmup.enabled=false",
+                        "employee.audit.enabled=false",
+                        "employee.cache.invalidation.transport=loopback",
+                        "employee.cache.invalidation.channel=cache-coherence-test")
+                .run();
+    }
+
+    @BeforeEach
+    void setup() {
+
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void whenAnEmployeeChangesOnOneNodeThenTheOtherNodeStopsServingTheCachedCopy() throws Exception {
+
+        //given
+        EmployeeService serviceA = nodeA.getBean(EmployeeService.class);
+        EmployeeService serviceB = nodeB.getBean(EmployeeService.class);
+        EmployeeDTO created = serviceA.createEmployee(EmployeeDTOBuilder.builder().id(null).build().toEmployeeDTO());
+        MatcherAssert.assertThat(serviceA.findByCPF(created.getCPF()).getRole(), Matchers.is(Role.MANAGER));
+        MatcherAssert.assertThat(nodeA.getBean(EmployeeCache.class).get(Cpf.parse(created.getCPF())), Matchers.is(Matchers.notNullValue()));
+
+        //when
+        serviceB.changeRole(created.getId(), Role.SPECIALIST);
+
+        //then
+        MatcherAssert.assertThat(nodeA.getBean(EmployeeCache.class).get(Cpf.parse(created.getCPF())), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(serviceA.findByCPF(created.getCPF()).getRole(), Matchers.is(Role.SPECIALIST));
+
+        //when
+        serviceB.fireEmployee(created.getId());
+
+        //then
+        MatcherAssert.assertThat(serviceA.findByCPF(created.getCPF()).getDismissalDate(), Matchers.is(Matchers.notNullValue()));
+
+    }
+
+}
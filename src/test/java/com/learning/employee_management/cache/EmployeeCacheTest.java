@@ -0,0 +1,209 @@
+package com.learning.employee_management.cache;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class EmployeeCacheTest {
+
+    private final EmployeeCache cache = new EmployeeCache();
+
+    private static EmployeeDTO employee(long version) {
+
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        employeeDTO.setVersion(version);
+        return employeeDTO;
+    }
+
+    private static EmployeeDTO employee(String cpf) {
+
+        EmployeeDTO employeeDTO = employee(1);
+        employeeDTO.setCPF(cpf);
+        return employeeDTO;
+    }
+
+    private static long cpf() {
+        return Cpf.parse(EmployeeDTOBuilder.builder().build().toEmployeeDTO().getCPF());
+    }
+
+    @Test
+    void whenARowIsInvalidatedThenOlderCachedVersionsAreEvicted() {
+
+        //given
+        cache.put(employee(1));
+
+        //when
+        cache.invalidate(cpf(), 2);
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenAFillRacesWithAnInvalidationThenTheStaleVersionIsRejected() {
+
+        //given
+        cache.invalidate(cpf(), 2);
+
+        //when
+        cache.put(employee(1));
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenTheCommittedVersionIsFilledThenItIsCached() {
+
+        //given
+        cache.invalidate(cpf(), 2);
+
+        //when
+        cache.put(employee(2));
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()).getVersion(), Matchers.is(2L));
+
+    }
+
+    @Test
+    void whenALateInvalidationArrivesThenANewerEntryIsKept() {
+
+        //given
+        cache.put(employee(3));
+
+        //when
+        cache.invalidate(cpf(), 2);
+        cache.put(employee(2));
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()).getVersion(), Matchers.is(3L));
+
+    }
+
+    @Test
+    void whenAnEmployeeIsDeletedThenNoVersionCanBeFilled() {
+
+        //when
+        cache.invalidate(cpf(), EmployeeCache.DELETED);
+        cache.put(employee(7));
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenJsonIsAttachedToTheCachedVersionThenItIsServedUntilTheRowIsInvalidated() {
+
+        //given
+        byte[] json = {'{', '}'};
+        cache.put(employee(1));
+
+        //when
+        cache.putJson(employee(1), json);
+        byte[] cachedJson = cache.getJson(cpf());
+        cache.invalidate(cpf(), 2);
+
+        //then
+        MatcherAssert.assertThat(cachedJson, Matchers.is(Matchers.sameInstance(json)));
+        MatcherAssert.assertThat(cache.getJson(cpf()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenJsonOfAnotherVersionIsAttachedThenItIsIgnored() {
+
+        //given
+        cache.put(employee(2));
+
+        //when
+        cache.putJson(employee(1), new byte[]{'{', '}'});
+
+        //then
+        MatcherAssert.assertThat(cache.getJson(cpf()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenTheCacheIsFullThenTheLeastRecentlyUsedEmployeeIsEvicted() {
+
+        //given
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        cache.put(employee("35642145690"));
+        cache.put(employee("52998224725"));
+        cache.get(35642145690L);
+
+        //when
+        cache.put(employee("01234567890"));
+
+        //then
+        MatcherAssert.assertThat(cache.size(), Matchers.is(2));
+        MatcherAssert.assertThat(cache.get(35642145690L), Matchers.is(Matchers.notNullValue()));
+        MatcherAssert.assertThat(cache.get(52998224725L), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(cache.get(1234567890L), Matchers.is(Matchers.notNullValue()));
+
+    }
+
+    @Test
+    void whenACallerChangesAnEmployeeThenTheCachedOneIsNotAffected() {
+
+        //given
+        EmployeeDTO employeeDTO = employee(1);
+        cache.put(employeeDTO);
+
+        //when
+        employeeDTO.setName("Changed");
+        cache.get(cpf()).setSalary(1L);
+
+        //then
+        MatcherAssert.assertThat(cache.get(cpf()), Matchers.is(employee(1)));
+
+    }
+
+    @Test
+    void whenAFillAndAnInvalidationOfANewerVersionRaceThenTheStaleVersionNeverStays() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                //given
+                EmployeeCache racedCache = new EmployeeCache();
+                CyclicBarrier start = new CyclicBarrier(2);
+
+                //when
+                Future<?> fill = executor.submit(() -> {
+                    start.await();
+                    racedCache.put(employee(1));
+                    return null;
+                });
+                Future<?> invalidation = executor.submit(() -> {
+                    start.await();
+                    racedCache.invalidate(cpf(), 2);
+                    return null;
+                });
+                fill.get(5, TimeUnit.SECONDS);
+                invalidation.get(5, TimeUnit.SECONDS);
+
+                //then
+                MatcherAssert.assertThat(racedCache.get(cpf()), Matchers.is(Matchers.nullValue()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+}
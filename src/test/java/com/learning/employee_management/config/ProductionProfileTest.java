@@ -0,0 +1,224 @@
+package com.learning.employee_management.config;
+
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.load.SyntheticEmployeeGenerator;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks what each setting of the prod profile buys in round trips, parses and connections, which
+ * unlike latency do not depend on the machine; latency is compared with the load test,
+ * {@code ./gradlew loadTest -Dload.profile=prod}.
+ */
+@ActiveProfiles("prod")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prodprofile",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "employee.ratelimit.enabled=false",
+        "employee.warmup.enabled=false",
+        "employee.schedule.enabled=false",
+        "employee.audit.file=build/prod-profile-test/audit.log"})
+public class ProductionProfileTest {
+
+    private static final int EMPLOYEES = 100;
+    private static final int POOL_SIZE = 16;
+    private static final int STATEMENTS = 64;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Employee> seed = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            seed.add(new Employee(null, "name" + i, "lastName" + i, SyntheticEmployeeGenerator.cpf(i), 10000_00, 100_00,
+                    1000_00, LocalDate.of(2020, 1, 1), null, Role.MANAGER, 0));
+        }
+        employees = repository.saveAll(seed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void whenManyEmployeesAreUpdatedInOneTransactionThenTheUpdatesAreBatched() {
+
+        //given
+        long[] prepared = new long[1];
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Employee> loaded = repository.findAll();
+            statistics.clear();
+            loaded.forEach(employee -> employee.setSalary(employee.getSalary() + 100_00));
+            repository.flush();
+            prepared[0] = statistics.getPrepareStatementCount();
+        });
+
+        //then
+        // one statement per batch of 50 instead of one per employee
+        MatcherAssert.assertThat(prepared[0], Matchers.lessThan((long) EMPLOYEES / 10));
+    }
+
+    @Test
+    void whenAnEmployeeIsLoadedAgainThenItComesFromTheSecondLevelCacheUntilABulkChange() {
+
+        //given
+        Long id = employees.get(0).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> repository.findById(id));
+        transactionTemplate.executeWithoutResult(status -> repository.findById(id));
+
+        //then
+        MatcherAssert.assertThat(statistics.getSecondLevelCacheMissCount(), Matchers.is(1L));
+        MatcherAssert.assertThat(statistics.getSecondLevelCacheHitCount(), Matchers.is(1L));
+        MatcherAssert.assertThat(entityManagerFactory.getCache().contains(Employee.class, id), Matchers.is(true));
+
+        publisher.publishEvent(EmployeeChangedEvent.bulk());
+        MatcherAssert.assertThat(entityManagerFactory.getCache().contains(Employee.class, id), Matchers.is(false));
+    }
+
+    @Test
+    void whenTheSameQueryRunsAgainThenItsPlanComesFromThePlanCache() {
+
+        //given
+        transactionTemplate.executeWithoutResult(status -> repository.findDTOByCPF(SyntheticEmployeeGenerator.cpf(0)));
+        statistics.clear();
+
+        //when
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String cpf = SyntheticEmployeeGenerator.cpf(i);
+            transactionTemplate.executeWithoutResult(status -> repository.findDTOByCPF(cpf));
+        }
+
+        //then
+        // the JPQL is parsed once, every later call reuses the plan
+        MatcherAssert.assertThat(statistics.getQueryPlanCacheMissCount(), Matchers.is(0L));
+        MatcherAssert.assertThat(statistics.getQueryPlanCacheHitCount(), Matchers.greaterThanOrEqualTo((long) EMPLOYEES));
+    }
+
+    @Test
+    void whenAsManyRequestsAsThePoolSizeHoldAConnectionThenAllGetOneAtOnce() throws Exception {
+
+        //given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        int[] activeAtPeak = new int[1];
+        CyclicBarrier allConnected = new CyclicBarrier(POOL_SIZE, () -> activeAtPeak[0] = pool.getActiveConnections());
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+
+        //when
+        List<Future<?>> requests = new ArrayList<>();
+        try {
+            for (int i = 0; i < POOL_SIZE; i++) {
+                requests.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        allConnected.await(5, TimeUnit.SECONDS);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        // the default pool of 10 would have made six of them wait out the connection timeout
+        MatcherAssert.assertThat(activeAtPeak[0], Matchers.is(POOL_SIZE));
+        MatcherAssert.assertThat(pool.getTotalConnections(), Matchers.is(POOL_SIZE));
+        MatcherAssert.assertThat(pool.getThreadsAwaitingConnection(), Matchers.is(0));
+    }
+
+    @Test
+    void whenASessionPreparesMoreStatementsThanTheDefaultCacheThenTheyStayParsed() throws Exception {
+
+        //given
+        int cached;
+
+        //when
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < STATEMENTS; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM employee WHERE id = ? + " + i)) {
+                    statement.setLong(1, i);
+                    statement.executeQuery().close();
+                }
+            }
+            cached = queryCache(connection).size();
+        }
+
+        //then
+        // H2 keeps 8 parsed statements per session by default; re-preparing any of these skips the parser
+        MatcherAssert.assertThat(cached, Matchers.greaterThanOrEqualTo(STATEMENTS));
+    }
+
+    /**
+     * H2 has no counter for its per-session parse cache, so the cache itself is read from the session.
+     */
+    private static Map<?, ?> queryCache(Connection connection) throws Exception {
+
+        Object h2Connection = connection.unwrap(Class.forName("org.h2.jdbc.JdbcConnection"));
+        Object session = h2Connection.getClass().getMethod("getSession").invoke(h2Connection);
+        Field queryCache = session.getClass().getDeclaredField("queryCache");
+        queryCache.setAccessible(true);
+        return (Map<?, ?>) queryCache.get(session);
+    }
+
+}
@@ -1,16 +1,26 @@
 package com.learning.employee_management.controller;
 
 
+import com.learning.employee_management.audit.AuditInterceptor;
 import com.learning.employee_management.builder.EmployeeChangeableValuesBuilder;
 import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupDTO;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupResultDTO;
 import com.learning.employee_management.employeeDTO.EmployeeChangeableValues;
 import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+import com.learning.employee_management.employeeDTO.ScheduledEventDTO;
+import com.learning.employee_management.enums.LifecycleEventType;
 import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.enums.ScheduledEventStatus;
 import com.learning.employee_management.exception.EmployeeNotFoundException;
 import com.learning.employee_management.exception.ProfitShareExceedsMaxException;
 import com.learning.employee_management.exception.ProfitShareLesserThanZeroException;
 import com.learning.employee_management.exception.SalaryIncompatibleWithRoleException;
 import com.learning.employee_management.services.EmployeeService;
+import com.learning.employee_management.services.ScheduledEventService;
+import com.learning.employee_management.validation.EmployeeValidator;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
@@ -26,12 +37,17 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.learning.employee_management.utils.JsonConvertionUtils.objectToJsonString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,12 +59,19 @@ public class EmployeeControllerTest {
     private static final String RAISE_PROFIT_SHARE_URL_PATH = "/raiseProfitShare";
     private static final String LOWER_PROFIT_SHARE_URL_PATH = "/lowerProfitShare";
     private static final String CHANGE_ROLE_URL_PATH = "/changeRole";
+    private static final String BATCH_LOOKUP_URL_PATH = "/batchLookup";
 
     private MockMvc mockMvc;
 
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private ScheduledEventService scheduledEventService;
+
+    @Spy
+    private EmployeeValidator employeeValidator;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -78,13 +101,47 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].cpf", Matchers.is(employeeDTO.getCPF())))
                 .andExpect(jsonPath("$[0].admissionDate", Matchers.is(employeeDTO.getAdmissionDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")))))
                 .andExpect(jsonPath("$[0].dismissalDate", Matchers.is(employeeDTO.getDismissalDate())))
-                .andExpect(jsonPath("$[0].salary", Matchers.is(employeeDTO.getSalary())))
+                .andExpect(jsonPath("$[0].salary", Matchers.is(employeeDTO.getSalary() / 100.0)))
                 .andExpect(jsonPath("$[0].role", Matchers.is(employeeDTO.getRole().toString())));
 
 
     }
 
 
+    @Test
+    void whenGETListIsCalledWithFiltersThenTheFilteredSearchIsUsed() throws Exception {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        EmployeeFilter filter = EmployeeFilter.builder().role(Role.MANAGER).active(true).sort("salary").size(10).build();
+
+        //when
+        Mockito.when(employeeService.search(filter)).thenReturn(Collections.singletonList(employeeDTO));
+
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get(EMPLOYEE_URL_PATH)
+                .param("role", "MANAGER")
+                .param("active", "true")
+                .param("sort", "salary")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].cpf", Matchers.is(employeeDTO.getCPF())));
+
+    }
+
+    @Test
+    void whenGETListIsCalledWithAPageSizeTooLargeThenABadRequestStatusIsReturned() throws Exception {
+
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get(EMPLOYEE_URL_PATH)
+                .param("size", "100000")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+    }
+
+
     @Test
     void whenPOSTIsCalledThenAnEmployeeIsCreated() throws Exception {
 
@@ -103,11 +160,41 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
                 .andExpect(jsonPath("$.admissionDate", Matchers.is(employeeDTO.getAdmissionDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")))))
                 .andExpect(jsonPath("$.dismissalDate", Matchers.is(employeeDTO.getDismissalDate())))
-                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary())))
+                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary() / 100.0)))
                 .andExpect(jsonPath("$.role", Matchers.is(employeeDTO.getRole().toString())));
 
     }
 
+    @Test
+    void whenPOSTScheduledEventIsCalledThenAPendingEventIsReturned() throws Exception {
+
+        //given
+        ScheduledEventDTO scheduledEventDTO = ScheduledEventDTO.builder()
+                .type(LifecycleEventType.DISMISSAL)
+                .effectiveDate(LocalDate.now().plusDays(30))
+                .build();
+        ScheduledEventDTO scheduledEvent = ScheduledEventDTO.builder()
+                .id(1L)
+                .employeeId(4L)
+                .type(LifecycleEventType.DISMISSAL)
+                .effectiveDate(scheduledEventDTO.getEffectiveDate())
+                .status(ScheduledEventStatus.PENDING)
+                .build();
+
+        //when
+        Mockito.when(scheduledEventService.schedule(4L, scheduledEventDTO)).thenReturn(scheduledEvent);
+
+        //then
+        mockMvc.perform(post(EMPLOYEE_URL_PATH + "/4/scheduledEvents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\": \"DISMISSAL\", \"effectiveDate\": \""
+                        + scheduledEventDTO.getEffectiveDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", Matchers.is(1)))
+                .andExpect(jsonPath("$.status", Matchers.is("PENDING")));
+
+    }
+
     @Test
     void whenPOSTIsCalledWithoutARequiredFieldAnErrorIsReturned() throws Exception {
 
@@ -207,13 +294,32 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
                 .andExpect(jsonPath("$.admissionDate", Matchers.is(employeeDTO.getAdmissionDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")))))
                 .andExpect(jsonPath("$.dismissalDate", Matchers.is(employeeDTO.getDismissalDate())))
-                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary())))
+                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary() / 100.0)))
                 .andExpect(jsonPath("$.role", Matchers.is(employeeDTO.getRole().toString())));
 
 
     }
 
 
+    @Test
+    void whenGETActiveByRoleIsCalledThenActiveEmployeesWithThatRoleAreReturned() throws Exception {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+
+        //when
+        Mockito.when(employeeService.findActiveByRole(Role.MANAGER)).thenReturn(Collections.singletonList(employeeDTO));
+
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get(EMPLOYEE_URL_PATH + "/role/MANAGER/active")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].cpf", Matchers.is(employeeDTO.getCPF())))
+                .andExpect(jsonPath("$[0].role", Matchers.is(Role.MANAGER.toString())));
+
+    }
+
+
     @Test
     void whenGETIsCalledWithoutARegisteredCpfThenNotFoundStatusIsReturned() throws Exception {
 
@@ -233,6 +339,49 @@ public class EmployeeControllerTest {
     }
 
 
+    @Test
+    void whenPOSTBatchLookupIsCalledThenFoundAndMissingMapsAreReturned() throws Exception {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        EmployeeBatchLookupDTO lookup = new EmployeeBatchLookupDTO(
+                Collections.singletonList(employeeDTO.getCPF()), Collections.singletonList(-1L));
+        EmployeeBatchLookupResultDTO result = new EmployeeBatchLookupResultDTO();
+        result.getFoundByCPF().put(employeeDTO.getCPF(), employeeDTO);
+        result.getMissingIds().add(-1L);
+
+        //when
+        Mockito.when(employeeService.findBatch(lookup)).thenReturn(result);
+
+        //then
+        mockMvc.perform(post(EMPLOYEE_URL_PATH + BATCH_LOOKUP_URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectToJsonString(lookup)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foundByCPF." + employeeDTO.getCPF() + ".name", Matchers.is(employeeDTO.getName())))
+                .andExpect(jsonPath("$.missingIds[0]", Matchers.is(-1)))
+                .andExpect(request().attribute(AuditInterceptor.AUDITED_EMPLOYEES_ATTRIBUTE,
+                        Matchers.contains(Cpf.mask(Cpf.parse(employeeDTO.getCPF())))));
+
+    }
+
+    @Test
+    void whenPOSTBatchLookupIsCalledWithTooManyKeysABadRequestStatusIsReturned() throws Exception {
+
+        //given
+        List<String> cpfs = IntStream.rangeClosed(0, EmployeeBatchLookupDTO.MAX_KEYS)
+                .mapToObj(i -> String.format("%011d", i)).collect(Collectors.toList());
+        EmployeeBatchLookupDTO lookup = new EmployeeBatchLookupDTO(cpfs, Collections.emptyList());
+
+        //then
+        mockMvc.perform(post(EMPLOYEE_URL_PATH + BATCH_LOOKUP_URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectToJsonString(lookup)))
+                .andExpect(status().isBadRequest());
+
+    }
+
+
     @Test
     void whenPATCHIsCalledToFireEmployeeThenOkStatusIsReturned() throws Exception {
 
@@ -330,7 +479,7 @@ public class EmployeeControllerTest {
                 .content(objectToJsonString(employeeChangeableValues)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
-                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary())))
+                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary() / 100.0)))
                 .andExpect(jsonPath("$.role", Matchers.is(employeeDTO.getRole().toString())));
 
     }
@@ -377,8 +526,8 @@ public class EmployeeControllerTest {
                 .content(objectToJsonString(employeeChangeableValues)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
-                .andExpect(jsonPath("$.profitShare", Matchers.is(employeeDTO.getProfitShare())))
-                .andExpect(jsonPath("$.maxProfitShare", Matchers.is(employeeDTO.getMaxProfitShare())));
+                .andExpect(jsonPath("$.profitShare", Matchers.is(employeeDTO.getProfitShare() / 100.0)))
+                .andExpect(jsonPath("$.maxProfitShare", Matchers.is(employeeDTO.getMaxProfitShare() / 100.0)));
 
     }
 
@@ -449,8 +598,8 @@ public class EmployeeControllerTest {
                 .content(objectToJsonString(employeeChangeableValues)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
-                .andExpect(jsonPath("$.profitShare", Matchers.is(employeeDTO.getProfitShare())))
-                .andExpect(jsonPath("$.maxProfitShare", Matchers.is(employeeDTO.getMaxProfitShare())));
+                .andExpect(jsonPath("$.profitShare", Matchers.is(employeeDTO.getProfitShare() / 100.0)))
+                .andExpect(jsonPath("$.maxProfitShare", Matchers.is(employeeDTO.getMaxProfitShare() / 100.0)));
 
     }
 
@@ -523,7 +672,7 @@ public class EmployeeControllerTest {
                 .content(objectToJsonString(employeeChangeableValues)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())))
-                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary())))
+                .andExpect(jsonPath("$.salary", Matchers.is(employeeDTO.getSalary() / 100.0)))
                 .andExpect(jsonPath("$.role", Matchers.is(employeeDTO.getRole().toString())));
 
     }
@@ -0,0 +1,60 @@
+package com.learning.employee_management.cpf;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+public class CpfTest {
+
+    @Test
+    void whenACpfIsParsedThenDigitsAndPunctuationAreAccepted() {
+
+        //then
+        MatcherAssert.assertThat(Cpf.parse("35642145690"), Matchers.is(35642145690L));
+        MatcherAssert.assertThat(Cpf.parse("356.421.456-90"), Matchers.is(35642145690L));
+        MatcherAssert.assertThat(Cpf.parse("01234567890"), Matchers.is(1234567890L));
+
+    }
+
+    @Test
+    void whenACpfIsMalformedThenParseReturnsInvalid() {
+
+        //then
+        MatcherAssert.assertThat(Cpf.parse(null), Matchers.is(Cpf.INVALID));
+        MatcherAssert.assertThat(Cpf.parse("3564214569"), Matchers.is(Cpf.INVALID));
+        MatcherAssert.assertThat(Cpf.parse("356421456901"), Matchers.is(Cpf.INVALID));
+        MatcherAssert.assertThat(Cpf.parse("33abcd"), Matchers.is(Cpf.INVALID));
+
+    }
+
+    @Test
+    void whenCheckDigitsAreVerifiedThenOnlyValidCpfsPass() {
+
+        //then
+        MatcherAssert.assertThat(Cpf.isValid(Cpf.parse("35642145690")), Matchers.is(true));
+        MatcherAssert.assertThat(Cpf.isValid(Cpf.parse("52998224725")), Matchers.is(true));
+        MatcherAssert.assertThat(Cpf.isValid(Cpf.parse("35642145685")), Matchers.is(false));
+        MatcherAssert.assertThat(Cpf.isValid(Cpf.parse("11111111111")), Matchers.is(false));
+        MatcherAssert.assertThat(Cpf.isValid(Cpf.INVALID), Matchers.is(false));
+
+    }
+
+    @Test
+    void whenAKeyIsFormattedThenLeadingZerosAreKept() {
+
+        //then
+        MatcherAssert.assertThat(Cpf.format(1234567890L), Matchers.is("01234567890"));
+        MatcherAssert.assertThat(Cpf.format(Cpf.parse("356.421.456-90")), Matchers.is("35642145690"));
+
+    }
+
+    @Test
+    void whenAKeyIsMaskedThenOnlyTheCheckDigitsAreShown() {
+
+        //then
+        MatcherAssert.assertThat(Cpf.mask(35642145690L), Matchers.is("***.***.***-90"));
+        MatcherAssert.assertThat(Cpf.mask(1234567890L), Matchers.is("***.***.***-90"));
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.learning.employee_management.export;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+public class CsvWriterTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private String written() {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void whenARowIsWrittenThenFieldsAreSeparatedAndFormatted() throws IOException {
+
+        //given
+        CsvWriter writer = new CsvWriter(Channels.newChannel(output));
+
+        //when
+        writer.number(42).text("joao").money(3000000).money(-1050).date(LocalDate.of(2020, 2, 5)).date(null).text("MANAGER");
+        writer.endRow();
+        writer.flush();
+
+        //then
+        MatcherAssert.assertThat(written(), Matchers.is("42,joao,30000.00,-10.50,2020-02-05,,MANAGER\n"));
+
+    }
+
+    @Test
+    void whenTextNeedsQuotingThenItIsEscaped() throws IOException {
+
+        //given
+        CsvWriter writer = new CsvWriter(Channels.newChannel(output));
+
+        //when
+        writer.text("Silva, \"Jr\"").text("Jos\u00e9");
+        writer.endRow();
+        writer.flush();
+
+        //then
+        MatcherAssert.assertThat(written(), Matchers.is("\"Silva, \"\"Jr\"\"\",Jos\u00e9\n"));
+
+    }
+
+    @Test
+    void whenRowsExceedTheBufferThenEverythingIsWrittenInOrder() throws IOException {
+
+        //given
+        CsvWriter writer = new CsvWriter(Channels.newChannel(output), 16);
+        StringBuilder expected = new StringBuilder();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            writer.number(i).text("lastName" + i);
+            writer.endRow();
+            expected.append(i).append(",lastName").append(i).append('\n');
+        }
+        writer.flush();
+
+        //then
+        MatcherAssert.assertThat(written(), Matchers.is(expected.toString()));
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.learning.employee_management.export;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+@JdbcTest
+@Import(RosterExporter.class)
+public class RosterExporterTest {
+
+    @Autowired
+    private RosterExporter exporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        jdbcTemplate.update("INSERT INTO employee (name, last_name, cpf, salary_cents, profit_share_cents, max_profit_share_cents, "
+                + "admission_date, dismissal_date, role) VALUES ('joao', 'pedro', 35642145690, 3000000, 20000, 100000, "
+                + "DATE '2020-02-05', NULL, 'M')");
+        jdbcTemplate.update("INSERT INTO employee (name, last_name, cpf, salary_cents, profit_share_cents, max_profit_share_cents, "
+                + "admission_date, dismissal_date, role) VALUES ('ana', 'Silva, Jr', 1234567890, 550000, 0, 50000, "
+                + "DATE '2019-07-01', DATE '2021-06-01', 'T')");
+    }
+
+    @Test
+    void whenTheRosterIsExportedThenEveryEmployeeIsWrittenAsACsvRow() throws IOException {
+
+        //given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        long rows = exporter.export(output, false);
+
+        //then
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        MatcherAssert.assertThat(rows, Matchers.is(2L));
+        MatcherAssert.assertThat(lines[0], Matchers.is(RosterExporter.HEADER));
+        MatcherAssert.assertThat(lines[1], Matchers.endsWith(",joao,pedro,35642145690,30000.00,200.00,1000.00,2020-02-05,,MANAGER"));
+        MatcherAssert.assertThat(lines[2], Matchers.endsWith(",ana,\"Silva, Jr\",01234567890,5500.00,0.00,500.00,2019-07-01,2021-06-01,TECHNICIAN"));
+
+    }
+
+    @Test
+    void whenTheRosterIsExportedWithGzipThenTheOutputDecompressesToTheSameCsv() throws IOException {
+
+        //given
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        //when
+        exporter.export(plain, false);
+        exporter.export(compressed, true);
+
+        //then
+        byte[] decompressed = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).readAllBytes();
+        MatcherAssert.assertThat(new String(decompressed, StandardCharsets.UTF_8),
+                Matchers.is(new String(plain.toByteArray(), StandardCharsets.UTF_8)));
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.learning.employee_management.idempotency;
+
+import com.learning.employee_management.ratelimit.RateLimitInterceptor;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdempotencyFilterTest {
+
+    private static final String RAISE_SALARY_URL_PATH = "/api/v1/employee/4/raiseSalary";
+    private static final String BODY = "{\"value\":100}";
+
+    private final IdempotencyFilter filter = new IdempotencyFilter();
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain chain = (request, response) -> {
+        executions.incrementAndGet();
+        response.setContentType("application/json");
+        response.getWriter().write("{\"salary\":30100.0}");
+    };
+
+    IdempotencyFilterTest() {
+        ReflectionTestUtils.setField(filter, "store", new IdempotencyStore());
+    }
+
+    @Test
+    void whenAMutatingCallIsRetriedWithTheSameKeyThenTheStoredResponseIsReplayed() throws Exception {
+
+        //when
+        MockHttpServletResponse first = perform("key-1");
+        MockHttpServletResponse retry = perform("key-1");
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(1));
+        MatcherAssert.assertThat(retry.getContentAsString(), Matchers.is(first.getContentAsString()));
+        MatcherAssert.assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER), Matchers.is("true"));
+
+    }
+
+    @Test
+    void whenCallsUseDifferentKeysThenEachOneIsExecuted() throws Exception {
+
+        //when
+        perform("key-1");
+        perform("key-2");
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(2));
+
+    }
+
+    @Test
+    void whenACallIsThrottledOrConflictsThenARetryWithTheSameKeyIsExecuted() throws Exception {
+
+        //given
+        FilterChain throttled = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        };
+        FilterChain conflicting = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(HttpStatus.CONFLICT.value());
+        };
+
+        //when
+        perform("key-1", throttled);
+        perform("key-1", conflicting);
+        MockHttpServletResponse retry = perform("key-1", chain);
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(3));
+        MatcherAssert.assertThat(retry.getStatus(), Matchers.is(HttpStatus.OK.value()));
+        MatcherAssert.assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenAKeyIsReusedWithADifferentBodyThenItIsRejectedInsteadOfReplayed() throws Exception {
+
+        //given
+        perform("key-1", "{\"value\":100}", "10.0.0.1", chain);
+
+        //when
+        MockHttpServletResponse retry = perform("key-1", "{\"value\":5000}", "10.0.0.1", chain);
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(1));
+        MatcherAssert.assertThat(retry.getStatus(), Matchers.is(HttpStatus.UNPROCESSABLE_ENTITY.value()));
+        MatcherAssert.assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenAnotherClientClaimsTheSameClientIdAndKeyThenItsCallIsExecutedNotReplayed() throws Exception {
+
+        //when
+        perform("key-1", BODY, "10.0.0.1", chain);
+        MockHttpServletResponse other = perform("key-1", BODY, "10.0.0.2", chain);
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(2));
+        MatcherAssert.assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenACallHasNoKeyThenItIsAlwaysExecuted() throws Exception {
+
+        //when
+        perform(null);
+        perform(null);
+
+        //then
+        MatcherAssert.assertThat(executions.get(), Matchers.is(2));
+
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey) throws Exception {
+        return perform(idempotencyKey, chain);
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, FilterChain chain) throws Exception {
+        return perform(idempotencyKey, BODY, "10.0.0.1", chain);
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, String body, String remoteAddress, FilterChain chain)
+            throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", RAISE_SALARY_URL_PATH);
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader(RateLimitInterceptor.CLIENT_ID_HEADER, "client-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+}
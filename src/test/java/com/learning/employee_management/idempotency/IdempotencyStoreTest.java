@@ -0,0 +1,125 @@
+package com.learning.employee_management.idempotency;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class IdempotencyStoreTest {
+
+    private static final String KEY = "client|PATCH|/api/v1/employee/1/raiseSalary|key";
+
+    private final IdempotencyStore store = new IdempotencyStore();
+
+    @Test
+    void whenAKeyIsUsedForTheFirstTimeThenTheCallerOwnsIt() {
+
+        //then
+        MatcherAssert.assertThat(store.begin(KEY, store.newEntry()), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(store.begin(KEY, store.newEntry()), Matchers.is(Matchers.notNullValue()));
+
+    }
+
+    @Test
+    void whenTheOwnerCompletesThenAWaitingDuplicateReceivesTheStoredResponse() throws Exception {
+
+        //given
+        IdempotencyStore.Entry owner = store.newEntry();
+        store.begin(KEY, owner);
+        IdempotencyStore.Entry duplicate = store.begin(KEY, store.newEntry());
+        StoredResponse response = new StoredResponse(200, "application/json", "{}".getBytes(), new byte[0]);
+
+        //when
+        CompletableFuture<StoredResponse> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return duplicate.await(TimeUnit.SECONDS.toMillis(5));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        store.complete(KEY, owner, response);
+
+        //then
+        MatcherAssert.assertThat(waiting.get(5, TimeUnit.SECONDS), Matchers.is(Matchers.sameInstance(response)));
+
+    }
+
+    @Test
+    void whenTheOwnerAbandonsTheKeyThenTheNextCallerOwnsIt() throws Exception {
+
+        //given
+        IdempotencyStore.Entry owner = store.newEntry();
+        store.begin(KEY, owner);
+        IdempotencyStore.Entry duplicate = store.begin(KEY, store.newEntry());
+
+        //when
+        store.abandon(KEY, owner);
+
+        //then
+        MatcherAssert.assertThat(duplicate.await(0), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(store.begin(KEY, store.newEntry()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenAnOwnerFinishesAfterItsKeyWasTakenOverThenTheSuccessorKeepsTheKey() throws Exception {
+
+        //given
+        ReflectionTestUtils.setField(store, "inFlightTimeoutSeconds", 0L);
+        IdempotencyStore.Entry timedOut = store.newEntry();
+        store.begin(KEY, timedOut);
+        ReflectionTestUtils.setField(store, "inFlightTimeoutSeconds", 60L);
+        IdempotencyStore.Entry successor = store.newEntry();
+        MatcherAssert.assertThat(store.begin(KEY, successor), Matchers.is(Matchers.nullValue()));
+
+        //when
+        store.abandon(KEY, timedOut);
+        store.complete(KEY, timedOut, new StoredResponse(500, null, new byte[0], new byte[0]));
+
+        //then
+        IdempotencyStore.Entry duplicate = store.begin(KEY, store.newEntry());
+        MatcherAssert.assertThat(duplicate, Matchers.is(Matchers.sameInstance(successor)));
+        StoredResponse response = new StoredResponse(200, null, new byte[0], new byte[0]);
+        store.complete(KEY, successor, response);
+        MatcherAssert.assertThat(duplicate.await(0), Matchers.is(Matchers.sameInstance(response)));
+
+    }
+
+    @Test
+    void whenAStoredResponseExpiresThenTheKeyCanBeUsedAgain() {
+
+        //given
+        ReflectionTestUtils.setField(store, "ttlSeconds", 0L);
+        IdempotencyStore.Entry owner = store.newEntry();
+        store.begin(KEY, owner);
+        store.complete(KEY, owner, new StoredResponse(200, null, new byte[0], new byte[0]));
+
+        //then
+        MatcherAssert.assertThat(store.begin(KEY, store.newEntry()), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenTheStoreIsFullThenCompletedEntriesAreEvicted() {
+
+        //given
+        ReflectionTestUtils.setField(store, "maxEntries", 2);
+        IdempotencyStore.Entry a = store.newEntry();
+        store.begin("a", a);
+        store.complete("a", a, new StoredResponse(200, null, new byte[0], new byte[0]));
+        IdempotencyStore.Entry b = store.newEntry();
+        store.begin("b", b);
+        store.complete("b", b, new StoredResponse(200, null, new byte[0], new byte[0]));
+
+        //when
+        store.begin("c", store.newEntry());
+
+        //then
+        MatcherAssert.assertThat(store.size(), Matchers.is(Matchers.lessThanOrEqualTo(2)));
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.learning.employee_management.index;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeIndexTest {
+
+    @InjectMocks
+    private EmployeeIndex index;
+
+    @Mock
+    private EmployeeRepository repository;
+
+    private static EmployeeDTO employee(long id) {
+        return EmployeeDTOBuilder.builder().id(id).CPF(String.format("%011d", id * 7)).build().toEmployeeDTO();
+    }
+
+    @Test
+    void whenTheIndexIsReloadedThenEmployeesAreFoundByIdAndCpf() {
+
+        //given
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            employees.add(employee(id));
+        }
+
+        //when
+        Mockito.when(repository.findAllDTOs()).thenReturn(employees);
+        index.reload();
+
+        //then
+        MatcherAssert.assertThat(index.size(), Matchers.is(1000));
+        MatcherAssert.assertThat(index.byId(500).getCpf(), Matchers.is(3500L));
+        MatcherAssert.assertThat(index.byCpf(3500).getId(), Matchers.is(500L));
+        MatcherAssert.assertThat(index.byId(1001), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(index.byCpf(1), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenAnEmployeeChangesThenItsRecordIsReplaced() {
+
+        //given
+        EmployeeDTO employeeDTO = employee(1);
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(employeeDTO));
+
+        //when
+        employeeDTO.setRole(Role.DIRECTOR);
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(employeeDTO));
+
+        //then
+        MatcherAssert.assertThat(index.size(), Matchers.is(1));
+        MatcherAssert.assertThat(index.byId(1).getRole(), Matchers.is(Role.DIRECTOR));
+        MatcherAssert.assertThat(index.byCpf(Cpf.parse(employeeDTO.getCPF())).getRole(), Matchers.is(Role.DIRECTOR));
+
+    }
+
+    @Test
+    void whenAnEmployeeIsDeletedThenItIsNoLongerFound() {
+
+        //given
+        EmployeeDTO employeeDTO = employee(1);
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(employeeDTO));
+
+        //when
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(employeeDTO));
+
+        //then
+        MatcherAssert.assertThat(index.byId(1), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(index.byCpf(Cpf.parse(employeeDTO.getCPF())), Matchers.is(Matchers.nullValue()));
+        MatcherAssert.assertThat(index.size(), Matchers.is(0));
+
+    }
+
+    @Test
+    void whenManyEmployeesAreAddedOneByOneThenAllAreFound() {
+
+        //when
+        for (long id = 1; id <= 5000; id++) {
+            index.onEmployeeChanged(EmployeeChangedEvent.changed(employee(id)));
+        }
+
+        //then
+        MatcherAssert.assertThat(index.size(), Matchers.is(5000));
+        for (long id = 1; id <= 5000; id++) {
+            MatcherAssert.assertThat(index.byCpf(id * 7).getId(), Matchers.is(id));
+        }
+
+    }
+
+    @Test
+    void whenChangesArriveOutOfOrderThenTheNewestVersionIsKept() {
+
+        //given
+        EmployeeDTO older = employee(1);
+        EmployeeDTO newer = employee(1);
+        newer.setRole(Role.DIRECTOR);
+        newer.setVersion(2);
+
+        //when
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(newer));
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(older));
+
+        //then
+        MatcherAssert.assertThat(index.byId(1).getRole(), Matchers.is(Role.DIRECTOR));
+        MatcherAssert.assertThat(index.byId(1).getVersion(), Matchers.is(2L));
+
+    }
+
+    @Test
+    void whenAChangeArrivesAfterTheDeletionThenTheEmployeeStaysDeleted() {
+
+        //given
+        EmployeeDTO employeeDTO = employee(1);
+        employeeDTO.setVersion(3);
+
+        //when
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(employeeDTO));
+        index.onEmployeeChanged(EmployeeChangedEvent.changed(employee(1)));
+
+        //then
+        MatcherAssert.assertThat(index.byId(1), Matchers.is(Matchers.nullValue()));
+
+    }
+
+    @Test
+    void whenABulkChangeIsPublishedThenTheIndexIsReloadedInTheBackground() throws Exception {
+
+        //given
+        Mockito.when(repository.findAllDTOs()).thenReturn(Collections.singletonList(employee(9)));
+
+        //when
+        index.onEmployeeChanged(EmployeeChangedEvent.bulk());
+        index.reloadInBackground().get(5, TimeUnit.SECONDS);
+
+        //then
+        MatcherAssert.assertThat(index.byId(9).getId(), Matchers.is(9L));
+
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.learning.employee_management.load;
+
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.mapper.EmployeeMapper;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test of the employee API: 80% lookups by CPF, 10% list pages and 10% salary
+ * raises, issued at a fixed rate. Latency is measured from each request's scheduled start, so a
+ * slow server is not hidden by the client backing off. Excluded from {@code test}; run with
+ * {@code ./gradlew loadTest -Dload.employees=10000 -Dload.rate=500 -Dload.seconds=30}; add
+ * {@code -Dload.profile=prod} to run against the production tuning profile.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles(resolver = EmployeeLoadTest.LoadProfileResolver.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest",
+        "employee.ratelimit.enabled=false",
+        "employee.warmup.enabled=false",
+        "employee.audit.file=build/load-test/audit.log"})
+public class EmployeeLoadTest {
+
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 10_000);
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 10);
+    private static final int THREADS = Integer.getInteger("load.threads", 64);
+    private static final String MAX_P99_MILLIS = System.getProperty("load.maxP99Millis");
+    private static final String MIN_THROUGHPUT = System.getProperty("load.minThroughput");
+    private static final Path REPORT = Paths.get("build", "load-test", "report.txt");
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String PROFILE = System.getProperty("load.profile");
+
+    private enum Operation {FIND_BY_CPF, LIST, RAISE_SALARY}
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(THREADS))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+
+        SyntheticEmployeeGenerator generator = new SyntheticEmployeeGenerator(42);
+        List<Employee> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            batch.add(EmployeeMapper.INSTANCE.toModel(generator.employee(i)));
+            if (batch.size() == SEED_BATCH_SIZE || i == EMPLOYEES - 1) {
+                repository.saveAll(batch).forEach(employee -> ids.add(employee.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    void whenTheMixedWorkloadRunsThenThroughputAndLatencyPercentilesAreReported() throws Exception {
+
+        //given
+        run(WARMUP_SECONDS);
+
+        //when
+        Map<Operation, LatencyRecorder> recorders = run(SECONDS);
+
+        //then
+        String report = report(recorders);
+        log.info("Load test report:\n{}", report);
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, report.getBytes(StandardCharsets.UTF_8));
+
+        long total = recorders.values().stream().mapToLong(LatencyRecorder::count).sum();
+        long errors = recorders.values().stream().mapToLong(LatencyRecorder::errors).sum();
+        MatcherAssert.assertThat(errors, Matchers.is(0L));
+        if (MIN_THROUGHPUT != null) {
+            MatcherAssert.assertThat((double) total / SECONDS, Matchers.greaterThanOrEqualTo(Double.parseDouble(MIN_THROUGHPUT)));
+        }
+        if (MAX_P99_MILLIS != null) {
+            for (LatencyRecorder recorder : recorders.values()) {
+                MatcherAssert.assertThat(LatencyRecorder.percentileMillis(recorder.sorted(), 99),
+                        Matchers.lessThanOrEqualTo(Double.parseDouble(MAX_P99_MILLIS)));
+            }
+        }
+
+    }
+
+    private Map<Operation, LatencyRecorder> run(int seconds) throws InterruptedException {
+
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder(RATE * seconds + 1));
+        }
+        long requests = (long) RATE * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long start = System.nanoTime();
+        AtomicLong next = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            workers.execute(() -> {
+                long request;
+                while ((request = next.getAndIncrement()) < requests) {
+                    long scheduled = start + request * intervalNanos;
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    Operation operation = pick();
+                    boolean success = send(operation);
+                    recorders.get(operation).record(System.nanoTime() - scheduled, success);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 120L, TimeUnit.SECONDS);
+        return recorders;
+    }
+
+    private Operation pick() {
+
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 80) {
+            return Operation.FIND_BY_CPF;
+        }
+        return roll < 90 ? Operation.LIST : Operation.RAISE_SALARY;
+    }
+
+    private boolean send(Operation operation) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request;
+        switch (operation) {
+            case FIND_BY_CPF:
+                request = HttpRequest.newBuilder(uri("/" + SyntheticEmployeeGenerator.cpf(random.nextInt(EMPLOYEES)))).GET().build();
+                break;
+            case LIST:
+                request = HttpRequest.newBuilder(uri("?active=true&size=50&afterId=" + ids.get(random.nextInt(ids.size())))).GET().build();
+                break;
+            default:
+                request = HttpRequest.newBuilder(uri("/" + ids.get(random.nextInt(ids.size())) + "/raiseSalary"))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"value\": 0.01}"))
+                        .build();
+        }
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1/employee" + path);
+    }
+
+    private String report(Map<Operation, LatencyRecorder> recorders) {
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("employees=%d rate=%d/s duration=%ds threads=%d profile=%s%n", EMPLOYEES, RATE, SECONDS, THREADS,
+                PROFILE != null ? PROFILE : "default"));
+        report.append(String.format("%-14s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long[] sorted = recorder.sorted();
+            report.append(String.format("%-14s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), recorder.count(), recorder.errors(), (double) recorder.count() / SECONDS,
+                    LatencyRecorder.percentileMillis(sorted, 50), LatencyRecorder.percentileMillis(sorted, 90),
+                    LatencyRecorder.percentileMillis(sorted, 99), LatencyRecorder.percentileMillis(sorted, 99.9),
+                    LatencyRecorder.percentileMillis(sorted, 100)));
+        }
+        return report.toString();
+    }
+
+    static class LoadProfileResolver implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return PROFILE != null ? new String[]{PROFILE} : new String[0];
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.learning.employee_management.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity recorder of latencies in nanoseconds. Samples past the capacity are counted
+ * but not kept, so percentiles are computed over the first {@code capacity} requests.
+ */
+public class LatencyRecorder {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicLong errors = new AtomicLong();
+
+    public LatencyRecorder(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    public void record(long nanos, boolean success) {
+
+        int index = recorded.getAndIncrement();
+        if (index < samples.length()) {
+            samples.set(index, nanos);
+        }
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public int count() {
+        return recorded.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    public long[] sorted() {
+
+        int size = Math.min(recorded.get(), samples.length());
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public static double percentileMillis(long[] sorted, double percentile) {
+
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+}
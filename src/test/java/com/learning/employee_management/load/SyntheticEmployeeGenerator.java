@@ -0,0 +1,74 @@
+package com.learning.employee_management.load;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.services.EmployeeRules;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Deterministic generator of valid employees: CPFs carry correct check digits and salaries
+ * respect the minimum of each role, so every generated employee passes the service rules.
+ */
+public class SyntheticEmployeeGenerator {
+
+    private static final Role[] ROLES = {Role.TECHNICIAN, Role.TECHNICIAN, Role.TECHNICIAN, Role.SPECIALIST,
+            Role.SPECIALIST, Role.MANAGER, Role.DIRECTOR, Role.OWNER};
+    private static final long FIRST_CPF_BASE = 100_000_000L;
+    private static final LocalDate FIRST_ADMISSION = LocalDate.of(2000, 1, 1);
+
+    private final Random random;
+
+    public SyntheticEmployeeGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public EmployeeDTO employee(int index) {
+
+        Role role = ROLES[random.nextInt(ROLES.length)];
+        long salary = EmployeeRules.minSalary(role) + random.nextInt(20_000) * 100L;
+        long maxProfitShare = salary / 10;
+        long profitShare = random.nextInt((int) (maxProfitShare / 2));
+        return EmployeeDTOBuilder.builder()
+                .id(null)
+                .name("name" + (index % 10_000))
+                .lastName("lastName" + index)
+                .CPF(cpf(index))
+                .salary(salary)
+                .profitShare(profitShare)
+                .maxProfitShare(maxProfitShare)
+                .admissionDate(FIRST_ADMISSION.plusDays(random.nextInt(8_000)))
+                .role(role)
+                .build().toEmployeeDTO();
+    }
+
+    public static String cpf(int index) {
+
+        long base = FIRST_CPF_BASE + index;
+        int[] digits = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.learning.employee_management.money;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.employee_management.employeeDTO.EmployeeChangeableValues;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void whenCentsAreFormattedThenTwoDecimalPlacesAreWritten() {
+
+        //then
+        MatcherAssert.assertThat(Money.format(3000000), Matchers.is("30000.00"));
+        MatcherAssert.assertThat(Money.format(5), Matchers.is("0.05"));
+        MatcherAssert.assertThat(Money.format(-1050), Matchers.is("-10.50"));
+
+    }
+
+    @Test
+    void whenADecimalAmountIsConvertedThenItBecomesExactCents() {
+
+        //then
+        MatcherAssert.assertThat(Money.toCents(new BigDecimal("0.10")), Matchers.is(10L));
+        MatcherAssert.assertThat(Money.toCents(new BigDecimal("1100")), Matchers.is(110000L));
+        assertThrows(ArithmeticException.class, () -> Money.toCents(new BigDecimal("1.005")));
+
+    }
+
+    @Test
+    void whenAnAmountIsReadFromJsonThenItIsNotRoundedThroughDouble() throws Exception {
+
+        //when
+        EmployeeChangeableValues values = objectMapper.readValue("{\"value\":0.29}", EmployeeChangeableValues.class);
+
+        //then
+        MatcherAssert.assertThat(values.getValue(), Matchers.is(29L));
+        MatcherAssert.assertThat(objectMapper.writeValueAsString(values), Matchers.containsString("\"value\":0.29"));
+
+    }
+
+    @Test
+    void whenAnAmountHasMoreThanTwoDecimalPlacesThenReadingFails() {
+
+        //then
+        assertThrows(JsonMappingException.class,
+                () -> objectMapper.readValue("{\"value\":0.291}", EmployeeChangeableValues.class));
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.learning.employee_management.ratelimit;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:asyncratelimit",
+        "employee.ratelimit.enabled=true",
+        "employee.ratelimit.capacity=2",
+        "employee.ratelimit.refill-per-second=0.001",
+        "employee.warmup.enabled=false",
+        "employee.audit.file=build/async-ratelimit-test/audit.log"})
+public class AsyncRequestRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoadShedder loadShedder;
+
+    @Test
+    void whenAStreamedExportCompletesThenItIsCountedOnceAndLeavesNothingInFlight() throws Exception {
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(get("/api/v1/employee/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk());
+        }
+
+        //then
+        AtomicInteger inFlight = (AtomicInteger) ReflectionTestUtils.getField(loadShedder, "inFlight");
+        MatcherAssert.assertThat(inFlight.get(), Matchers.is(0));
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.learning.employee_management.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+
+public class RateLimitInterceptorTest {
+
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor();
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+
+        ReflectionTestUtils.setField(interceptor, "loadShedder", Mockito.mock(LoadShedder.class));
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "capacity", 2);
+        ReflectionTestUtils.setField(interceptor, "refillPerSecond", 0.001);
+        ReflectionTestUtils.setField(interceptor, "maxBuckets", 100);
+        handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+    }
+
+    @Test
+    void whenTheClientIdHeaderIsRotatedThenTheSameBucketIsUsed() {
+
+        //when
+        boolean first = interceptor.preHandle(request("client-1"), new MockHttpServletResponse(), handler);
+        boolean second = interceptor.preHandle(request("client-2"), new MockHttpServletResponse(), handler);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean third = interceptor.preHandle(request("client-3"), response, handler);
+
+        //then
+        MatcherAssert.assertThat(first, Matchers.is(true));
+        MatcherAssert.assertThat(second, Matchers.is(true));
+        MatcherAssert.assertThat(third, Matchers.is(false));
+        MatcherAssert.assertThat(response.getStatus(), Matchers.is(HttpStatus.TOO_MANY_REQUESTS.value()));
+
+    }
+
+    @Test
+    void whenBucketsHaveRefilledThenThePruneForgetsThem() {
+
+        //given
+        ReflectionTestUtils.setField(interceptor, "refillPerSecond", 1_000_000_000.0);
+        interceptor.preHandle(request(null), new MockHttpServletResponse(), handler);
+
+        //when
+        interceptor.prune();
+
+        //then
+        MatcherAssert.assertThat((Map<?, ?>) ReflectionTestUtils.getField(interceptor, "buckets"), Matchers.anEmptyMap());
+
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr("10.0.0.1");
+        if (clientId != null) {
+            request.addHeader(RateLimitInterceptor.CLIENT_ID_HEADER, clientId);
+        }
+        return request;
+    }
+
+}
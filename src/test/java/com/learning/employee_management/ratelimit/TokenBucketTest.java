@@ -0,0 +1,58 @@
+package com.learning.employee_management.ratelimit;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void whenTheBurstIsAvailableThenTokensAreTaken() {
+
+        //given
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        //then
+        MatcherAssert.assertThat(bucket.tryAcquire(0), Matchers.is(0L));
+        MatcherAssert.assertThat(bucket.tryAcquire(0), Matchers.is(0L));
+        MatcherAssert.assertThat(bucket.tryAcquire(0), Matchers.is(0L));
+
+    }
+
+    @Test
+    void whenTheBucketIsEmptyThenTheWaitUntilTheNextTokenIsReturned() {
+
+        //given
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        //when
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        //then
+        MatcherAssert.assertThat(bucket.tryAcquire(0), Matchers.is(ONE_SECOND));
+        MatcherAssert.assertThat(bucket.tryAcquire(ONE_SECOND / 2), Matchers.is(ONE_SECOND / 2));
+        MatcherAssert.assertThat(bucket.tryAcquire(ONE_SECOND), Matchers.is(0L));
+
+    }
+
+    @Test
+    void whenTheBucketHasRefilledThenItIsFull() {
+
+        //given
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        //when
+        bucket.tryAcquire(0);
+
+        //then
+        MatcherAssert.assertThat(bucket.isFull(0), Matchers.is(false));
+        MatcherAssert.assertThat(bucket.isFull(ONE_SECOND), Matchers.is(true));
+
+    }
+
+}
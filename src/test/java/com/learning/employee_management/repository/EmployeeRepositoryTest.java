@@ -0,0 +1,206 @@
+package com.learning.employee_management.repository;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.EmployeeFilter;
+import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.mapper.EmployeeMapper;
+import com.learning.employee_management.money.Money;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@DataJpaTest
+public class EmployeeRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        for (int i = 0; i < 20; i++) {
+            EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder()
+                    .id(null)
+                    .CPF(String.format("%011d", i))
+                    .role(i % 2 == 0 ? Role.MANAGER : Role.TECHNICIAN)
+                    .salary((10000 + (i % 5) * 1000) * 100L)
+                    .admissionDate(LocalDate.of(2020, 1, 1).plusMonths(i))
+                    .build().toEmployeeDTO();
+            Employee employee = EmployeeMapper.INSTANCE.toModel(employeeDTO);
+            if (i % 4 == 0) {
+                employee.setDismissalDate(LocalDate.of(2021, 6, 1));
+            }
+            repository.save(employee);
+        }
+        repository.flush();
+    }
+
+    @Test
+    void whenActiveEmployeesByRoleAreQueriedThenOnlyActiveEmployeesWithThatRoleAreReturned() {
+
+        //then
+        List<EmployeeDTO> managers = repository.findActiveDTOsByRole(Role.MANAGER);
+        MatcherAssert.assertThat(managers.size(), Matchers.is(5));
+        MatcherAssert.assertThat(managers, Matchers.everyItem(Matchers.hasProperty("role", Matchers.is(Role.MANAGER))));
+        MatcherAssert.assertThat(managers, Matchers.everyItem(Matchers.hasProperty("dismissalDate", Matchers.nullValue())));
+
+    }
+
+    @Test
+    void whenEmployeesAdmittedBetweenDatesAreQueriedThenOnlyThoseAreReturned() {
+
+        //then
+        List<EmployeeDTO> admitted = repository.findDTOsAdmittedBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 1));
+        MatcherAssert.assertThat(admitted.size(), Matchers.is(3));
+
+    }
+
+    @Test
+    void whenSearchIsCalledWithFiltersThenOnlyMatchingEmployeesAreReturned() {
+
+        //given
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .role(Role.MANAGER)
+                .active(true)
+                .minSalary(new BigDecimal("12000"))
+                .build();
+
+        //then
+        List<EmployeeDTO> found = repository.search(filter);
+        MatcherAssert.assertThat(found, Matchers.everyItem(Matchers.hasProperty("role", Matchers.is(Role.MANAGER))));
+        MatcherAssert.assertThat(found, Matchers.everyItem(Matchers.hasProperty("dismissalDate", Matchers.nullValue())));
+        MatcherAssert.assertThat(found, Matchers.everyItem(Matchers.hasProperty("salary", Matchers.greaterThanOrEqualTo(12000_00L))));
+        MatcherAssert.assertThat(found.size(), Matchers.is(3));
+
+    }
+
+    @Test
+    void whenSearchIsPagedByKeysetThenEveryEmployeeIsReturnedOnceInSortOrder() {
+
+        //given
+        List<EmployeeDTO> all = new ArrayList<>();
+
+        //when
+        all.addAll(pageBySalaryDescending(null));
+
+        //then
+        MatcherAssert.assertThat(all.size(), Matchers.is(20));
+        MatcherAssert.assertThat(new HashSet<>(all).size(), Matchers.is(20));
+        List<Long> salaries = all.stream().map(EmployeeDTO::getSalary).collect(Collectors.toList());
+        List<Long> sortedSalaries = salaries.stream().sorted((a, b) -> Long.compare(b, a)).collect(Collectors.toList());
+        MatcherAssert.assertThat(salaries, Matchers.is(sortedSalaries));
+
+    }
+
+    @Test
+    void whenTheLastRowOfAPageIsDeletedThenTheNextPageStillStartsAfterIt() {
+
+        //given
+        List<EmployeeDTO> first = repository.search(EmployeeFilter.builder().sort("salary").direction("desc").size(6).build());
+        EmployeeDTO anchor = first.get(first.size() - 1);
+
+        //when
+        jdbcTemplate.update("DELETE FROM employee WHERE id = ?", anchor.getId());
+        List<EmployeeDTO> rest = pageBySalaryDescending(anchor);
+
+        //then
+        List<EmployeeDTO> all = new ArrayList<>(first);
+        all.addAll(rest);
+        MatcherAssert.assertThat(rest.size(), Matchers.is(14));
+        MatcherAssert.assertThat(new HashSet<>(all).size(), Matchers.is(20));
+
+    }
+
+    @Test
+    void whenTheLastRowOfAPageChangesItsSortValueThenTheNextPageNeitherSkipsNorRepeatsRows() {
+
+        //given
+        List<EmployeeDTO> first = repository.search(EmployeeFilter.builder().sort("salary").direction("desc").size(6).build());
+        EmployeeDTO anchor = first.get(first.size() - 1);
+
+        //when
+        jdbcTemplate.update("UPDATE employee SET salary_cents = ? WHERE id = ?", 1_000_000_00L, anchor.getId());
+        List<EmployeeDTO> rest = pageBySalaryDescending(anchor);
+
+        //then
+        List<EmployeeDTO> all = new ArrayList<>(first);
+        all.addAll(rest);
+        MatcherAssert.assertThat(rest.size(), Matchers.is(14));
+        MatcherAssert.assertThat(all.stream().map(EmployeeDTO::getId).distinct().count(), Matchers.is(20L));
+
+    }
+
+    @Test
+    void whenSalaryRangeIsSearchedThenTheSalaryIndexIsUsed() {
+
+        //then
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM employee WHERE salary_cents BETWEEN 1200000 AND 1300000", String.class);
+        MatcherAssert.assertThat(plan, Matchers.containsStringIgnoringCase("ix_employee_salary"));
+
+    }
+
+    @Test
+    void whenRoleIsStoredThenItIsStoredAsItsCode() {
+
+        //then
+        List<String> codes = jdbcTemplate.queryForList("SELECT DISTINCT role FROM employee ORDER BY role", String.class);
+        MatcherAssert.assertThat(codes, Matchers.contains("M", "T"));
+
+    }
+
+    @Test
+    void whenActiveEmployeesByRoleAreQueriedThenTheRoleAndDismissalIndexIsUsed() {
+
+        //then
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM employee WHERE role = 'M' AND dismissal_date IS NULL", String.class);
+        MatcherAssert.assertThat(plan, Matchers.containsStringIgnoringCase("ix_employee_role_dismissal"));
+
+    }
+
+    @Test
+    void whenEmployeesAdmittedBetweenDatesAreQueriedThenTheAdmissionIndexIsUsed() {
+
+        //then
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM employee WHERE admission_date BETWEEN DATE '2020-01-01' AND DATE '2020-03-01'", String.class);
+        MatcherAssert.assertThat(plan, Matchers.containsStringIgnoringCase("ix_employee_admission"));
+
+    }
+
+    private List<EmployeeDTO> pageBySalaryDescending(EmployeeDTO after) {
+
+        List<EmployeeDTO> all = new ArrayList<>();
+        for (; ; ) {
+            EmployeeFilter filter = EmployeeFilter.builder().sort("salary").direction("desc").size(6)
+                    .afterId(after != null ? after.getId() : null)
+                    .afterValue(after != null ? Money.format(after.getSalary()) : null)
+                    .build();
+            List<EmployeeDTO> page = repository.search(filter);
+            if (page.isEmpty()) {
+                return all;
+            }
+            all.addAll(page);
+            after = page.get(page.size() - 1);
+        }
+    }
+
+}
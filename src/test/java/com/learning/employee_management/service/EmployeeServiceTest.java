@@ -1,8 +1,14 @@
 package com.learning.employee_management.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.cache.EmployeeCache;
+import com.learning.employee_management.cpf.Cpf;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupDTO;
+import com.learning.employee_management.employeeDTO.EmployeeBatchLookupResultDTO;
 import com.learning.employee_management.employeeDTO.EmployeeDTO;
 import com.learning.employee_management.entity.Employee;
+import com.learning.employee_management.events.EmployeeChangedEvent;
 import com.learning.employee_management.enums.Role;
 import com.learning.employee_management.exception.*;
 import com.learning.employee_management.mapper.EmployeeMapper;
@@ -12,12 +18,17 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -33,16 +44,21 @@ public class EmployeeServiceTest {
     EmployeeService employeeService;
     @Mock
     private EmployeeRepository repository;
+    @Spy
+    private EmployeeCache cache = new EmployeeCache();
+    @Mock
+    private ApplicationEventPublisher publisher;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @Test
     void whenEmployeeListIsCalledThenReturnAListOfEmployees() {
 
         //given
         EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
-        Employee employee = employeeMapper.toModel(employeeDTO);
 
         //when
-        Mockito.when(repository.findAll()).thenReturn(Collections.singletonList(employee));
+        Mockito.when(repository.findAllDTOs()).thenReturn(Collections.singletonList(employeeDTO));
 
         //then
         List<EmployeeDTO> foundEmployeeDTOList = employeeService.findAll();
@@ -60,7 +76,7 @@ public class EmployeeServiceTest {
 
 
         //when
-        Mockito.when(repository.findAll()).thenReturn(Collections.emptyList());
+        Mockito.when(repository.findAllDTOs()).thenReturn(Collections.emptyList());
 
         //then
         List<EmployeeDTO> foundEmployeeDTOList = employeeService.findAll();
@@ -71,7 +87,7 @@ public class EmployeeServiceTest {
 
 
     @Test
-    void whenAnEmployeeIsInformedThenItShouldBeCreated() throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException {
+    void whenAnEmployeeIsInformedThenItShouldBeCreated() throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException, InvalidCpfException {
 
         //given
         EmployeeDTO expectedEmployeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
@@ -105,6 +121,35 @@ public class EmployeeServiceTest {
     }
 
 
+    @Test
+    void whenCreateEmployeeIsCalledWithAnInvalidCpfCheckDigitThenAnExceptionShouldBeThrown() {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().CPF("35642145685").build().toEmployeeDTO();
+
+        //then
+        assertThrows(InvalidCpfException.class, () -> employeeService.createEmployee(employeeDTO));
+        Mockito.verifyNoInteractions(repository);
+
+    }
+
+    @Test
+    void whenCreateEmployeeIsCalledWithAPunctuatedCpfThenItIsStoredNormalized() throws EmployeeAlreadyExistsException, SalaryIncompatibleWithRoleException, ProfitShareExceedsMaxException, InvalidCpfException {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().CPF("356.421.456-90").build().toEmployeeDTO();
+
+        //when
+        Mockito.when(repository.findByCPF("35642145690")).thenReturn(Optional.empty());
+        Mockito.when(repository.save(Mockito.any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //then
+        EmployeeDTO createdEmployeeDTO = employeeService.createEmployee(employeeDTO);
+        MatcherAssert.assertThat(createdEmployeeDTO.getCPF(), Matchers.is("35642145690"));
+
+    }
+
+
     @Test
     void whenCreateEmployeeIsCalledWithSalaryIncompatibleWithRoleThenAnExceptionShouldBeThrown() {
 
@@ -151,15 +196,81 @@ public class EmployeeServiceTest {
 
         //given
         EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
-        Employee expectedEmployee = employeeMapper.toModel(employeeDTO);
 
         //when
 
-        Mockito.when(repository.findByCPF(expectedEmployee.getCPF())).thenReturn(Optional.of(expectedEmployee));
+        Mockito.when(repository.findDTOByCPF(employeeDTO.getCPF())).thenReturn(Optional.of(employeeDTO));
+
+        //then
+        EmployeeDTO foundEmployeeDTO = employeeService.findByCPF(employeeDTO.getCPF());
+        MatcherAssert.assertThat(foundEmployeeDTO, Matchers.is(Matchers.equalTo(employeeDTO)));
+    }
+
+    @Test
+    void whenFindByCpfIsCalledTwiceThenTheSecondCallIsServedFromCache() throws EmployeeNotFoundException {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+
+        //when
+        Mockito.when(repository.findDTOByCPF(employeeDTO.getCPF())).thenReturn(Optional.of(employeeDTO));
 
         //then
+        employeeService.findByCPF(employeeDTO.getCPF());
         EmployeeDTO foundEmployeeDTO = employeeService.findByCPF(employeeDTO.getCPF());
         MatcherAssert.assertThat(foundEmployeeDTO, Matchers.is(Matchers.equalTo(employeeDTO)));
+        Mockito.verify(repository, Mockito.times(1)).findDTOByCPF(employeeDTO.getCPF());
+    }
+
+    @Test
+    void whenFindJsonByCpfIsCalledTwiceThenTheEmployeeIsSerializedOnce() throws Exception {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+
+        //when
+        Mockito.when(repository.findDTOByCPF(employeeDTO.getCPF())).thenReturn(Optional.of(employeeDTO));
+
+        //then
+        byte[] firstJson = employeeService.findJsonByCPF(employeeDTO.getCPF());
+        byte[] secondJson = employeeService.findJsonByCPF(employeeDTO.getCPF());
+        MatcherAssert.assertThat(secondJson, Matchers.is(Matchers.sameInstance(firstJson)));
+        MatcherAssert.assertThat(objectMapper.readValue(firstJson, EmployeeDTO.class).getAdmissionDate(),
+                Matchers.is(employeeDTO.getAdmissionDate()));
+        Mockito.verify(objectMapper, Mockito.times(1)).writeValueAsBytes(employeeDTO);
+    }
+
+    @Test
+    void whenAnEmployeeIsChangedThenItIsEvictedFromCache() throws EmployeeNotFoundException {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        Employee employee = employeeMapper.toModel(employeeDTO);
+        cache.put(employeeDTO);
+
+        //when
+        Mockito.when(repository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        //then
+        employeeService.raiseSalary(employee.getId(), 100_00);
+        MatcherAssert.assertThat(cache.get(Cpf.parse(employeeDTO.getCPF())), Matchers.is(Matchers.nullValue()));
+    }
+
+    @Test
+    void whenAnEmployeeIsChangedThenAChangeEventIsPublished() throws EmployeeNotFoundException, SalaryIncompatibleWithRoleException {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        Employee employee = employeeMapper.toModel(employeeDTO);
+
+        //when
+        Mockito.when(repository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        //then
+        employeeService.changeRole(employee.getId(), Role.SPECIALIST);
+        ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        Mockito.verify(publisher).publishEvent(event.capture());
+        MatcherAssert.assertThat(event.getValue().getChanged().get(0).getRole(), Matchers.is(Role.SPECIALIST));
     }
 
     @Test
@@ -171,7 +282,7 @@ public class EmployeeServiceTest {
 
         //when
 
-        Mockito.when(repository.findByCPF(expectedEmployeeDTO.getCPF())).thenReturn(Optional.empty());
+        Mockito.when(repository.findDTOByCPF(expectedEmployeeDTO.getCPF())).thenReturn(Optional.empty());
 
         //then
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.findByCPF(expectedEmployeeDTO.getCPF()));
@@ -179,6 +290,51 @@ public class EmployeeServiceTest {
 
     }
 
+    @Test
+    void whenFindBatchIsCalledThenFoundAndMissingKeysAreReturned() {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        String missingCpf = "11111111111";
+        EmployeeBatchLookupDTO lookup = new EmployeeBatchLookupDTO(
+                Arrays.asList(employeeDTO.getCPF(), missingCpf, employeeDTO.getCPF()),
+                Arrays.asList(employeeDTO.getId(), -1L));
+
+        //when
+        Mockito.when(repository.findDTOsByCPFIn(Arrays.asList(employeeDTO.getCPF(), missingCpf)))
+                .thenReturn(Collections.singletonList(employeeDTO));
+        Mockito.when(repository.findDTOsByIdIn(Arrays.asList(employeeDTO.getId(), -1L)))
+                .thenReturn(Collections.singletonList(employeeDTO));
+
+        //then
+        EmployeeBatchLookupResultDTO result = employeeService.findBatch(lookup);
+        MatcherAssert.assertThat(result.getFoundByCPF().get(employeeDTO.getCPF()), Matchers.is(Matchers.equalTo(employeeDTO)));
+        MatcherAssert.assertThat(result.getMissingCPFs(), Matchers.contains(missingCpf));
+        MatcherAssert.assertThat(result.getFoundById().get(employeeDTO.getId()), Matchers.is(Matchers.equalTo(employeeDTO)));
+        MatcherAssert.assertThat(result.getMissingIds(), Matchers.contains(-1L));
+
+    }
+
+    @Test
+    void whenFindBatchIsCalledWithManyCpfsThenTheyAreQueriedInChunks() {
+
+        //given
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+        EmployeeBatchLookupDTO lookup = new EmployeeBatchLookupDTO(cpfs, Collections.emptyList());
+
+        //when
+        Mockito.when(repository.findDTOsByCPFIn(Mockito.anyCollection())).thenReturn(Collections.emptyList());
+
+        //then
+        EmployeeBatchLookupResultDTO result = employeeService.findBatch(lookup);
+        Mockito.verify(repository, Mockito.times(3)).findDTOsByCPFIn(Mockito.anyCollection());
+        MatcherAssert.assertThat(result.getMissingCPFs().size(), Matchers.is(Matchers.equalTo(2500)));
+
+    }
+
     @Test
     void whenFireEmployeeIsCalledWithAValidIdThenAnEmployeeShouldBeFired() throws EmployeeNotFoundException {
 
@@ -266,7 +422,7 @@ public class EmployeeServiceTest {
         Mockito.when(repository.save(employee)).thenReturn(employee);
 
         //then
-        double value = 100;
+        long value = 100_00;
         expectedEmployeeDTO.setSalary(expectedEmployeeDTO.getSalary() + value);
         EmployeeDTO createdEmployeeDTO = employeeService.raiseSalary(expectedEmployeeDTO.getId(), value);
         MatcherAssert.assertThat(createdEmployeeDTO.getSalary(), Matchers.is(Matchers.equalTo(expectedEmployeeDTO.getSalary())));
@@ -286,7 +442,7 @@ public class EmployeeServiceTest {
         Mockito.when(repository.findById(expectedEmployeeDTO.getId())).thenReturn(Optional.empty());
 
         //then
-        double value = 100;
+        long value = 100_00;
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.raiseSalary(expectedEmployeeDTO.getId(), value));
 
 
@@ -306,7 +462,7 @@ public class EmployeeServiceTest {
         Mockito.when(repository.save(employee)).thenReturn(employee);
 
         //then
-        double value = 10;
+        long value = 10_00;
         expectedEmployeeDTO.setProfitShare(expectedEmployeeDTO.getProfitShare() + value);
         EmployeeDTO createdEmployeeDTO = employeeService.raiseProfitShare(expectedEmployeeDTO.getId(), value);
         MatcherAssert.assertThat(createdEmployeeDTO.getProfitShare(), Matchers.is(Matchers.equalTo(expectedEmployeeDTO.getProfitShare())));
@@ -326,7 +482,7 @@ public class EmployeeServiceTest {
         Mockito.when(repository.findById(expectedEmployeeDTO.getId())).thenReturn(Optional.empty());
 
         //then
-        double value = 10;
+        long value = 10_00;
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.raiseProfitShare(expectedEmployeeDTO.getId(), value));
 
 
@@ -346,7 +502,7 @@ public class EmployeeServiceTest {
 
 
         //then
-        double value = expectedEmployeeDTO.getMaxProfitShare() + 1;
+        long value = expectedEmployeeDTO.getMaxProfitShare() + 1;
         assertThrows(ProfitShareExceedsMaxException.class, () -> employeeService.raiseProfitShare(expectedEmployeeDTO.getId(), value));
 
 
@@ -366,7 +522,7 @@ public class EmployeeServiceTest {
 
 
         //then
-        double value = expectedEmployeeDTO.getMaxProfitShare() - 1;
+        long value = expectedEmployeeDTO.getMaxProfitShare() - 1;
         assertThrows(ProfitShareExceedsMaxException.class, () -> employeeService.raiseProfitShare(expectedEmployeeDTO.getId(), value));
 
 
@@ -386,7 +542,7 @@ public class EmployeeServiceTest {
 
         //then
 
-        double value = 10;
+        long value = 10_00;
         expectedEmployeeDTO.setProfitShare(expectedEmployeeDTO.getProfitShare() - value);
         EmployeeDTO createdEmployeeDTO = employeeService.lowerProfitShare(expectedEmployeeDTO.getId(), value);
         MatcherAssert.assertThat(createdEmployeeDTO.getProfitShare(), Matchers.is(Matchers.equalTo(expectedEmployeeDTO.getProfitShare())));
@@ -406,7 +562,7 @@ public class EmployeeServiceTest {
         Mockito.when(repository.findById(expectedEmployeeDTO.getId())).thenReturn(Optional.empty());
 
         //then
-        double value = 10;
+        long value = 10_00;
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.lowerProfitShare(expectedEmployeeDTO.getId(), value));
 
 
@@ -425,7 +581,7 @@ public class EmployeeServiceTest {
 
 
         //then
-        double value = expectedEmployeeDTO.getProfitShare() + 1;
+        long value = expectedEmployeeDTO.getProfitShare() + 1;
         assertThrows(ProfitShareLesserThanZeroException.class, () -> employeeService.lowerProfitShare(expectedEmployeeDTO.getId(), value));
 
 
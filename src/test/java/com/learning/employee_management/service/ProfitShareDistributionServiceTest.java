@@ -0,0 +1,158 @@
+package com.learning.employee_management.service;
+
+import com.learning.employee_management.cache.EmployeeCache;
+import com.learning.employee_management.employeeDTO.ProfitShareCandidate;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionDTO;
+import com.learning.employee_management.employeeDTO.ProfitShareDistributionResultDTO;
+import com.learning.employee_management.enums.DistributionWeighting;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.learning.employee_management.services.ProfitShareDistributionService;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+@ExtendWith(MockitoExtension.class)
+public class ProfitShareDistributionServiceTest {
+
+    @Mock
+    private EmployeeRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EmployeeCache cache;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @InjectMocks
+    private ProfitShareDistributionService service;
+
+    @Test
+    void whenNoEmployeeReachesTheCapThenPoolIsSplitByWeight() {
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(1000,
+                new double[]{1, 1, 2}, new long[]{10_000, 10_000, 10_000});
+
+        //then
+        MatcherAssert.assertThat(allocations, Matchers.is(new long[]{250, 250, 500}));
+
+    }
+
+    @Test
+    void whenAnEmployeeIsCappedThenItsExcessGoesToTheOthers() {
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(1000,
+                new double[]{1, 1, 2}, new long[]{100, 10_000, 10_000});
+
+        //then
+        MatcherAssert.assertThat(allocations, Matchers.is(new long[]{100, 300, 600}));
+
+    }
+
+    @Test
+    void whenThePoolDoesNotDivideEvenlyThenEveryCentIsStillDistributed() {
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(100,
+                new double[]{1, 1, 1}, new long[]{1000, 1000, 1000});
+
+        //then
+        MatcherAssert.assertThat(Arrays.stream(allocations).sum(), Matchers.is(100L));
+        MatcherAssert.assertThat(Arrays.stream(allocations).max().getAsLong()
+                - Arrays.stream(allocations).min().getAsLong(), Matchers.lessThanOrEqualTo(1L));
+
+    }
+
+    @Test
+    void whenThePoolExceedsEveryCapThenEachEmployeeIsCappedAndTheRestIsKept() {
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(10_000,
+                new double[]{1, 3}, new long[]{50, 70});
+
+        //then
+        MatcherAssert.assertThat(allocations, Matchers.is(new long[]{50, 70}));
+
+    }
+
+    @Test
+    void whenAnEmployeeHasNoRoomOrNoWeightThenNothingIsAllocated() {
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(1000,
+                new double[]{1, 0, 1}, new long[]{0, 1000, 1000});
+
+        //then
+        MatcherAssert.assertThat(allocations, Matchers.is(new long[]{0, 0, 1000}));
+
+    }
+
+    @Test
+    void whenManyEmployeesShareThePoolThenCapsHoldAndThePoolIsFullyDistributed() {
+
+        //given
+        Random random = new Random(42);
+        int size = 100_000;
+        double[] weights = new double[size];
+        long[] caps = new long[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 + random.nextInt(5);
+            caps[i] = random.nextInt(50_000_00);
+        }
+        long pool = 1_000_000_000_00L;
+
+        //when
+        long[] allocations = ProfitShareDistributionService.allocate(pool, weights, caps);
+
+        //then
+        for (int i = 0; i < size; i++) {
+            MatcherAssert.assertThat(allocations[i], Matchers.lessThanOrEqualTo(caps[i]));
+            MatcherAssert.assertThat(allocations[i], Matchers.greaterThanOrEqualTo(0L));
+        }
+        MatcherAssert.assertThat(Arrays.stream(allocations).sum(), Matchers.is(pool));
+
+    }
+
+    @Test
+    void whenACandidateIsDismissedBeforeTheUpdateThenItsShareIsReportedAsUndistributed() {
+
+        //given
+        LocalDate admission = LocalDate.of(2020, 1, 1);
+        Mockito.when(repository.findProfitShareCandidates()).thenReturn(Arrays.asList(
+                new ProfitShareCandidate(1L, 2000_00, 0, 51, admission, Role.TECHNICIAN),
+                new ProfitShareCandidate(2L, 2000_00, 0, 1000_00, admission, Role.TECHNICIAN),
+                new ProfitShareCandidate(3L, 2000_00, 0, 1000_00, admission, Role.TECHNICIAN)));
+        // the capped employee 1 was dismissed after the read, so the guarded update skips its row
+        Mockito.when(jdbcTemplate.batchUpdate(ArgumentMatchers.anyString(), ArgumentMatchers.anyCollection(),
+                ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(new int[][]{{0, 1, 1}});
+
+        //when
+        ProfitShareDistributionResultDTO result = service.distribute(ProfitShareDistributionDTO.builder()
+                .pool(300).weighting(DistributionWeighting.ROLE).build());
+
+        //then
+        MatcherAssert.assertThat(result.getDistributed(), Matchers.is(250L));
+        MatcherAssert.assertThat(result.getUndistributed(), Matchers.is(50L));
+        MatcherAssert.assertThat(result.getAppliedEmployees(), Matchers.is(2));
+        MatcherAssert.assertThat(result.getCappedEmployees(), Matchers.is(0));
+
+    }
+
+}
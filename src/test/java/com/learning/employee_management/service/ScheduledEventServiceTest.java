@@ -0,0 +1,132 @@
+package com.learning.employee_management.service;
+
+import com.learning.employee_management.employeeDTO.ScheduledEventDTO;
+import com.learning.employee_management.entity.ScheduledEmployeeEvent;
+import com.learning.employee_management.enums.LifecycleEventType;
+import com.learning.employee_management.enums.Role;
+import com.learning.employee_management.enums.ScheduledEventStatus;
+import com.learning.employee_management.exception.*;
+import com.learning.employee_management.repositories.ScheduledEmployeeEventRepository;
+import com.learning.employee_management.services.EmployeeService;
+import com.learning.employee_management.services.ScheduledEventService;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduledEventServiceTest {
+
+    @InjectMocks
+    private ScheduledEventService scheduledEventService;
+
+    @Mock
+    private ScheduledEmployeeEventRepository repository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private static ScheduledEmployeeEvent event(LifecycleEventType type) {
+        return new ScheduledEmployeeEvent(1L, 4L, type, LocalDate.of(2030, 1, 31), Role.DIRECTOR, 500_00L,
+                ScheduledEventStatus.PENDING, LocalDateTime.now(), null, null);
+    }
+
+    @Test
+    void whenADueDismissalIsAppliedThenTheEmployeeIsFiredOnTheEffectiveDate() throws Exception {
+
+        //given
+        ScheduledEmployeeEvent event = event(LifecycleEventType.DISMISSAL);
+
+        //when
+        Mockito.when(repository.transition(Mockito.eq(1L), Mockito.eq(ScheduledEventStatus.PENDING), Mockito.eq(ScheduledEventStatus.APPLIED),
+                Mockito.any(), Mockito.isNull())).thenReturn(1);
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(event));
+
+        //then
+        MatcherAssert.assertThat(scheduledEventService.apply(1L), Matchers.is(true));
+        Mockito.verify(employeeService).fireEmployee(4L, LocalDate.of(2030, 1, 31));
+
+    }
+
+    @Test
+    void whenAnEventWasAlreadyClaimedThenItIsNotAppliedAgain() throws Exception {
+
+        //when
+        Mockito.when(repository.transition(Mockito.eq(1L), Mockito.eq(ScheduledEventStatus.PENDING), Mockito.eq(ScheduledEventStatus.APPLIED),
+                Mockito.any(), Mockito.isNull())).thenReturn(0);
+
+        //then
+        MatcherAssert.assertThat(scheduledEventService.apply(1L), Matchers.is(false));
+        Mockito.verifyNoInteractions(employeeService);
+
+    }
+
+    @Test
+    void whenADueRaiseIsAppliedThenTheSalaryIsRaisedByTheScheduledAmount() throws Exception {
+
+        //given
+        ScheduledEmployeeEvent event = event(LifecycleEventType.SALARY_RAISE);
+
+        //when
+        Mockito.when(repository.transition(Mockito.eq(1L), Mockito.eq(ScheduledEventStatus.PENDING), Mockito.eq(ScheduledEventStatus.APPLIED),
+                Mockito.any(), Mockito.isNull())).thenReturn(1);
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(event));
+
+        //then
+        scheduledEventService.apply(1L);
+        Mockito.verify(employeeService).raiseSalary(4L, 500_00L);
+
+    }
+
+    @Test
+    void whenARoleChangeIsScheduledWithoutARoleThenAnExceptionShouldBeThrown() {
+
+        //given
+        ScheduledEventDTO scheduledEventDTO = ScheduledEventDTO.builder()
+                .type(LifecycleEventType.ROLE_CHANGE)
+                .effectiveDate(LocalDate.now().plusDays(1))
+                .build();
+
+        //then
+        assertThrows(InvalidScheduledEventException.class, () -> scheduledEventService.schedule(4L, scheduledEventDTO));
+        Mockito.verifyNoInteractions(repository);
+
+    }
+
+    @Test
+    void whenAnEventIsScheduledInThePastThenAnExceptionShouldBeThrown() {
+
+        //given
+        ScheduledEventDTO scheduledEventDTO = ScheduledEventDTO.builder()
+                .type(LifecycleEventType.DISMISSAL)
+                .effectiveDate(LocalDate.now().minusDays(1))
+                .build();
+
+        //then
+        assertThrows(InvalidScheduledEventException.class, () -> scheduledEventService.schedule(4L, scheduledEventDTO));
+
+    }
+
+    @Test
+    void whenANonPendingEventIsCancelledThenAnExceptionShouldBeThrown() {
+
+        //when
+        Mockito.when(repository.transition(Mockito.eq(1L), Mockito.eq(ScheduledEventStatus.PENDING), Mockito.eq(ScheduledEventStatus.CANCELLED),
+                Mockito.any(), Mockito.isNull())).thenReturn(0);
+
+        //then
+        assertThrows(ScheduledEventNotFoundException.class, () -> scheduledEventService.cancel(1L));
+
+    }
+
+}
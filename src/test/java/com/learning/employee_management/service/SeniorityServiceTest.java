@@ -0,0 +1,158 @@
+package com.learning.employee_management.service;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.employeeDTO.AnniversaryDTO;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import com.learning.employee_management.employeeDTO.TenureDistributionDTO;
+import com.learning.employee_management.events.EmployeeChangedEvent;
+import com.learning.employee_management.repositories.EmployeeRepository;
+import com.learning.employee_management.services.SeniorityService;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+public class SeniorityServiceTest {
+
+    @InjectMocks
+    private SeniorityService seniorityService;
+
+    @Mock
+    private EmployeeRepository repository;
+
+    private static EmployeeDTO employee(long id, LocalDate admissionDate) {
+        return EmployeeDTOBuilder.builder().id(id).admissionDate(admissionDate).build().toEmployeeDTO();
+    }
+
+    @Test
+    void whenAnniversariesOfAWeekAreRequestedThenOnlyEmployeesCompletingYearsInItAreReturned() {
+
+        //given
+        Mockito.when(repository.findAllDTOs()).thenReturn(Arrays.asList(
+                employee(1L, LocalDate.of(2015, 3, 10)),
+                employee(2L, LocalDate.of(2020, 3, 8)),
+                employee(3L, LocalDate.of(2021, 3, 9)),
+                employee(4L, LocalDate.of(2019, 3, 20))));
+        seniorityService.reload();
+
+        //when
+        List<AnniversaryDTO> anniversaries = seniorityService.anniversaries(LocalDate.of(2021, 3, 8), 7);
+
+        //then
+        MatcherAssert.assertThat(anniversaries.stream().map(AnniversaryDTO::getId).collect(Collectors.toList()),
+                Matchers.contains(2L, 1L));
+        MatcherAssert.assertThat(anniversaries.get(1).getYears(), Matchers.is(6));
+        MatcherAssert.assertThat(anniversaries.get(1).getAnniversaryDate(), Matchers.is(LocalDate.of(2021, 3, 10)));
+
+    }
+
+    @Test
+    void whenAnEmployeeAdmittedOnFebruary29HasNoSuchDayThenTheAnniversaryIsOnMarch1() {
+
+        //given
+        Mockito.when(repository.findAllDTOs()).thenReturn(Arrays.asList(employee(1L, LocalDate.of(2016, 2, 29))));
+        seniorityService.reload();
+
+        //then
+        MatcherAssert.assertThat(seniorityService.anniversaries(LocalDate.of(2021, 2, 28), 1), Matchers.empty());
+        MatcherAssert.assertThat(seniorityService.anniversaries(LocalDate.of(2021, 3, 1), 1).get(0).getYears(), Matchers.is(5));
+        MatcherAssert.assertThat(seniorityService.anniversaries(LocalDate.of(2020, 2, 29), 1).get(0).getYears(), Matchers.is(4));
+
+    }
+
+    @Test
+    void whenTheTenureDistributionIsRequestedThenEmployeesAreCountedByCompletedYears() {
+
+        //given
+        Mockito.when(repository.findAllDTOs()).thenReturn(Arrays.asList(
+                employee(1L, LocalDate.of(2021, 1, 1)),
+                employee(2L, LocalDate.of(2020, 6, 1)),
+                employee(3L, LocalDate.of(2020, 6, 2)),
+                employee(4L, LocalDate.of(2018, 6, 1)),
+                employee(5L, LocalDate.of(2022, 1, 1))));
+        seniorityService.reload();
+
+        //when
+        TenureDistributionDTO distribution = seniorityService.distribution(LocalDate.of(2021, 6, 1));
+
+        //then
+        MatcherAssert.assertThat(distribution.getActiveEmployees(), Matchers.is(4L));
+        MatcherAssert.assertThat(distribution.getBuckets(), Matchers.contains(
+                new TenureDistributionDTO.TenureBucket(0, 2),
+                new TenureDistributionDTO.TenureBucket(1, 1),
+                new TenureDistributionDTO.TenureBucket(2, 0),
+                new TenureDistributionDTO.TenureBucket(3, 1)));
+
+    }
+
+    @Test
+    void whenAnEmployeeIsFiredThenTheIndexIsUpdatedWithoutReloading() {
+
+        //given
+        EmployeeDTO employee = employee(1L, LocalDate.of(2019, 6, 1));
+        Mockito.when(repository.findAllDTOs()).thenReturn(Arrays.asList(employee, employee(2L, LocalDate.of(2020, 6, 1))));
+        seniorityService.reload();
+        LocalDate asOf = LocalDate.of(2021, 6, 1);
+        seniorityService.distribution(asOf);
+
+        //when
+        EmployeeDTO fired = employee(1L, LocalDate.of(2019, 6, 1));
+        fired.setDismissalDate(LocalDate.of(2021, 5, 1));
+        seniorityService.onEmployeeChanged(EmployeeChangedEvent.changed(fired));
+
+        //then
+        MatcherAssert.assertThat(seniorityService.size(), Matchers.is(1));
+        MatcherAssert.assertThat(seniorityService.distribution(asOf).getActiveEmployees(), Matchers.is(1L));
+        MatcherAssert.assertThat(seniorityService.anniversaries(asOf, 1).get(0).getId(), Matchers.is(2L));
+        Mockito.verify(repository, Mockito.times(1)).findAllDTOs();
+
+    }
+
+    @Test
+    void whenAnOlderVersionArrivesAfterANewerOneThenItIsIgnored() {
+
+        //given
+        EmployeeDTO employee = employee(1L, LocalDate.of(2019, 6, 1));
+        employee.setVersion(2);
+        Mockito.when(repository.findAllDTOs()).thenReturn(Collections.singletonList(employee));
+        seniorityService.reload();
+
+        //when
+        EmployeeDTO stale = employee(1L, LocalDate.of(2019, 6, 1));
+        stale.setVersion(1);
+        stale.setDismissalDate(LocalDate.of(2021, 5, 1));
+        seniorityService.onEmployeeChanged(EmployeeChangedEvent.changed(stale));
+
+        //then
+        MatcherAssert.assertThat(seniorityService.size(), Matchers.is(1));
+
+    }
+
+    @Test
+    void whenABulkChangeIsPublishedThenTheIndexIsReloadedInTheBackground() throws Exception {
+
+        //given
+        Mockito.when(repository.findAllDTOs()).thenReturn(Collections.singletonList(employee(9L, LocalDate.of(2019, 6, 1))));
+
+        //when
+        seniorityService.onEmployeeChanged(EmployeeChangedEvent.bulk());
+        seniorityService.reloadInBackground().get(5, TimeUnit.SECONDS);
+
+        //then
+        MatcherAssert.assertThat(seniorityService.size(), Matchers.is(1));
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.learning.employee_management.slowquery;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+public class SlowQueryLogTest {
+
+    private static final String SELECT_BY_CPF = "SELECT name FROM person WHERE cpf = ?";
+
+    private SlowQueryLog slowQueryLog;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        slowQueryLog = new SlowQueryLog(0, 2, 10);
+        DataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:slowquerylog;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource = new SlowQueryDataSource(h2, slowQueryLog);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS person");
+            statement.execute("CREATE TABLE person (name VARCHAR(20), cpf BIGINT)");
+            statement.execute("INSERT INTO person VALUES ('joao', 35642145690)");
+        }
+        slowQueryLog.clear();
+    }
+
+    @Test
+    void whenAPreparedStatementIsSlowThenItIsListedWithItsPlanAndTheCpfMasked() throws Exception {
+
+        //given
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_CPF)) {
+            statement.setLong(1, 35642145690L);
+
+            //when
+            try (ResultSet resultSet = statement.executeQuery()) {
+                MatcherAssert.assertThat(resultSet.next(), Matchers.is(true));
+            }
+        }
+
+        //then
+        List<SlowQuery> top = slowQueryLog.top();
+        MatcherAssert.assertThat(top, Matchers.hasSize(1));
+        MatcherAssert.assertThat(top.get(0).getSql(), Matchers.is(SELECT_BY_CPF));
+        MatcherAssert.assertThat(top.get(0).getCount(), Matchers.is(1L));
+        MatcherAssert.assertThat(top.get(0).getLastParameters(), Matchers.is("[***.***.***-90]"));
+        MatcherAssert.assertThat(top.get(0).getPlan(), Matchers.containsString("tableScan"));
+    }
+
+    @Test
+    void whenMoreStatementsAreSlowThanTheTopSizeThenOnlyTheSlowestAreListed() throws Exception {
+
+        //given
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+
+            //when
+            statement.executeQuery("SELECT 1");
+            statement.executeQuery("SELECT 2");
+            statement.executeQuery("SELECT 3");
+        }
+
+        //then
+        List<SlowQuery> top = slowQueryLog.top();
+        MatcherAssert.assertThat(top, Matchers.hasSize(2));
+        MatcherAssert.assertThat(top.get(0).getMaxNanos(), Matchers.greaterThanOrEqualTo(top.get(1).getMaxNanos()));
+    }
+
+    @Test
+    void whenParametersAreMaskedThenOnlyValidCpfsAreHidden() {
+
+        //given
+        Object[] parameters = {"356.421.456-90", 35642145685L, 42L, "joao", null};
+
+        //when
+        String masked = SlowQueryLog.mask(parameters);
+
+        //then
+        MatcherAssert.assertThat(masked, Matchers.is("[***.***.***-90, 35642145685, 42, joao, null]"));
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.learning.employee_management.tenant;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.learning.employee_management.utils.JsonConvertionUtils.objectToJsonString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tenantisolation",
+        "employee.tenants=acme,globex",
+        "employee.tenant.required=true",
+        "employee.ratelimit.enabled=false",
+        "employee.warmup.enabled=false",
+        "employee.audit.file=build/tenant-test/audit.log"})
+public class TenantIsolationTest {
+
+    private static final String EMPLOYEE_URL_PATH = "/api/v1/employee";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenAnEmployeeIsCreatedInATenantThenOtherTenantsDoNotSeeIt() throws Exception {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+        employeeDTO.setId(null);
+
+        //when
+        mockMvc.perform(post(EMPLOYEE_URL_PATH)
+                .header(TenantFilter.TENANT_HEADER, "acme")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectToJsonString(employeeDTO)))
+                .andExpect(status().isCreated());
+
+        //then
+        mockMvc.perform(get(EMPLOYEE_URL_PATH + "/" + employeeDTO.getCPF())
+                .header(TenantFilter.TENANT_HEADER, "acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cpf", Matchers.is(employeeDTO.getCPF())));
+        mockMvc.perform(get(EMPLOYEE_URL_PATH + "/" + employeeDTO.getCPF())
+                .header(TenantFilter.TENANT_HEADER, "globex"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(EMPLOYEE_URL_PATH)
+                .header(TenantFilter.TENANT_HEADER, "globex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.empty()));
+    }
+
+    @Test
+    void whenTheTenantIsUnknownOrMissingThenBadRequestIsReturned() throws Exception {
+
+        mockMvc.perform(get(EMPLOYEE_URL_PATH)
+                .header(TenantFilter.TENANT_HEADER, "initech"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEE_URL_PATH))
+                .andExpect(status().isBadRequest());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.learning.employee_management.validation;
+
+import com.learning.employee_management.builder.EmployeeDTOBuilder;
+import com.learning.employee_management.employeeDTO.EmployeeDTO;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hibernate.validator.HibernateValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class EmployeeValidatorTest {
+
+    private final EmployeeValidator validator = new EmployeeValidator();
+
+    private final Validator beanValidator = new SpringValidatorAdapter(Validation.byProvider(HibernateValidator.class)
+            .configure()
+            .defaultLocale(Locale.ENGLISH)
+            .buildValidatorFactory()
+            .getValidator());
+
+    @Test
+    void whenTheEmployeeIsValidThenNoErrorIsReported() {
+
+        //given
+        EmployeeDTO employeeDTO = EmployeeDTOBuilder.builder().build().toEmployeeDTO();
+
+        //then
+        MatcherAssert.assertThat(errors(validator, employeeDTO), Matchers.empty());
+
+    }
+
+    @Test
+    void whenPayloadsBreakTheConstraintsThenTheSameErrorsAsBeanValidationAreReported() {
+
+        //given
+        List<EmployeeDTO> payloads = Arrays.asList(
+                EmployeeDTOBuilder.builder().name(null).lastName(null).CPF(null).admissionDate(null).role(null).build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().name("jo").lastName("x".repeat(61)).salary(1099_99).build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().name("joaquim da silva").CPF("356.421.456-9").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("356.421.456-90").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("356421456-90").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("356..421456-90").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("3564214569a").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("356421456900").build().toEmployeeDTO(),
+                EmployeeDTOBuilder.builder().CPF("").salary(0).build().toEmployeeDTO());
+
+        //then
+        for (EmployeeDTO payload : payloads) {
+            MatcherAssert.assertThat(payload.toString(), errors(validator, payload),
+                    Matchers.is(errors(beanValidator, payload)));
+        }
+
+    }
+
+    @Test
+    void whenTheCpfIsCheckedThenOnlyTheDocumentedPunctuationIsAccepted() {
+
+        //then
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("356.421.456-90"), Matchers.is(true));
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("35642145690"), Matchers.is(true));
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("356421.456-90"), Matchers.is(true));
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("356.421.456--90"), Matchers.is(false));
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("356/421/456-90"), Matchers.is(false));
+        MatcherAssert.assertThat(EmployeeValidator.matchesCpfPattern("3564214569"), Matchers.is(false));
+
+    }
+
+    private static Set<String> errors(Validator validator, EmployeeDTO employeeDTO) {
+
+        Errors errors = new BeanPropertyBindingResult(employeeDTO, "employeeDTO");
+        validator.validate(employeeDTO, errors);
+        return errors.getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getCode() + " " + error.getDefaultMessage())
+                .collect(Collectors.toSet());
+    }
+
+}